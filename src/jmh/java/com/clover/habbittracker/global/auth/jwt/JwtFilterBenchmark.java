@@ -0,0 +1,89 @@
+package com.clover.habbittracker.global.auth.jwt;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+// 같은 토큰으로 요청이 반복될 때 JwtFilter 가 인증 객체를 만드는 비용을 비교한다.
+// - beforeChange: 변경 전 코드. 요청마다 문자열 키를 Base64 디코딩하고 WebAuthenticationDetailsSource 를 새로 만든다.
+// - withoutCache: 서명 키와 WebAuthenticationDetailsSource 를 재사용하지만 요청마다 서명을 검증한다.
+// - withCache: 검증한 Claims 를 토큰 만료 시각까지 재사용한다.
+// 실행: ./gradlew jmh
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtFilterBenchmark {
+
+	private static final String SECRET_KEY = "jwt.secret.test.createToken";
+	private static final Long EXPIRED_MS = 3600000L;
+	private static final Long REFRESH_EXPIRED_MS = 7200000L;
+	private static final WebAuthenticationDetailsSource DETAILS_SOURCE = new WebAuthenticationDetailsSource();
+
+	private String token;
+	private MockHttpServletRequest request;
+	private JwtFilter cachedJwtFilter;
+	private JwtFilter uncachedJwtFilter;
+
+	@Setup
+	public void setUp() {
+		JwtProvider jwtProvider = new JwtProvider(SECRET_KEY, EXPIRED_MS, REFRESH_EXPIRED_MS);
+		token = jwtProvider.createAccessJwt(1L);
+		request = new MockHttpServletRequest();
+		cachedJwtFilter = new JwtFilter(jwtProvider, new JwtClaimsCache(10000L));
+		uncachedJwtFilter = new JwtFilter(jwtProvider, new UncachedJwtClaimsCache());
+	}
+
+	@Benchmark
+	public UsernamePasswordAuthenticationToken authenticateBeforeChange() {
+		Claims payload = Jwts.parser()
+			.setSigningKey(SECRET_KEY)
+			.parseClaimsJws(token)
+			.getBody();
+		UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
+			payload.get("userId", Long.class), null, List.of(new SimpleGrantedAuthority("ROLE_MEMBER")));
+		authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+		return authenticationToken;
+	}
+
+	@Benchmark
+	public UsernamePasswordAuthenticationToken authenticateWithoutCache() {
+		UsernamePasswordAuthenticationToken authenticationToken = uncachedJwtFilter.createAuthentication(token);
+		authenticationToken.setDetails(DETAILS_SOURCE.buildDetails(request));
+		return authenticationToken;
+	}
+
+	@Benchmark
+	public UsernamePasswordAuthenticationToken authenticateWithCache() {
+		UsernamePasswordAuthenticationToken authenticationToken = cachedJwtFilter.createAuthentication(token);
+		authenticationToken.setDetails(DETAILS_SOURCE.buildDetails(request));
+		return authenticationToken;
+	}
+
+	// 캐시 없이 요청마다 서명을 검증한다.
+	private static class UncachedJwtClaimsCache extends JwtClaimsCache {
+
+		UncachedJwtClaimsCache() {
+			super(0L);
+		}
+
+		@Override
+		public Claims get(String token, Function<String, Claims> verifier) {
+			return verifier.apply(token);
+		}
+	}
+}
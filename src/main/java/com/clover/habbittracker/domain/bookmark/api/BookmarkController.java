@@ -6,6 +6,8 @@ import java.net.URI;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -54,18 +56,20 @@ public class BookmarkController {
 
 	@GetMapping
 	public ResponseEntity<List<BookmarkResponse>> getAllBookmarks(
-		@AuthenticationPrincipal Long memberId
+		@AuthenticationPrincipal Long memberId,
+		@PageableDefault(size = 5) Pageable pageable
 	) {
-		List<BookmarkResponse> bookmarks = bookMarkService.getAllBookmarks(memberId);
+		List<BookmarkResponse> bookmarks = bookMarkService.getAllBookmarks(memberId, pageable.getPageSize());
 		return ResponseEntity.ok(bookmarks);
 	}
 
 	@GetMapping("/{bookmarkId}")
 	public ResponseEntity<BookmarkResponse> getBookmark(
 		@AuthenticationPrincipal Long memberId,
-		@PathVariable Long bookmarkId
+		@PathVariable Long bookmarkId,
+		@PageableDefault(size = 20) Pageable pageable
 	) {
-		BookmarkResponse bookmark = bookMarkService.getBookmark(bookmarkId, memberId);
+		BookmarkResponse bookmark = bookMarkService.getBookmark(bookmarkId, memberId, pageable);
 		return ResponseEntity.ok(bookmark);
 	}
 
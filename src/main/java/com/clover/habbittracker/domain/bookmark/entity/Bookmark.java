@@ -4,20 +4,16 @@ import static com.clover.habbittracker.global.util.ValidateUtil.*;
 import static jakarta.persistence.GenerationType.*;
 import static lombok.AccessLevel.*;
 
-import java.util.HashSet;
 import java.util.Objects;
-import java.util.Set;
 
 import com.clover.habbittracker.domain.member.entity.Member;
-import com.clover.habbittracker.domain.post.entity.Post;
 import com.clover.habbittracker.global.base.entity.BaseEntity;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.JoinTable;
-import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import lombok.Builder;
@@ -26,10 +22,17 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
-@Table(name = "bookmark")
+@Table(name = "bookmark",
+	indexes = {
+		@Index(name = "idx_bookmark_member", columnList = "memberId"),
+		@Index(name = "idx_bookmark_default", columnList = "defaultMemberId", unique = true)
+	}
+)
 @NoArgsConstructor(access = PROTECTED)
 public class Bookmark extends BaseEntity {
 
+	public static final String DEFAULT_TITLE = "기본";
+	public static final String DEFAULT_DESCRIPTION = "기본값으로 제공되는 북마크입니다.";
 	private static final int TITLE_MAX_SIZE = 30;
 	private static final int DESCRIPTION_MAX_SIZE = 500;
 
@@ -45,9 +48,8 @@ public class Bookmark extends BaseEntity {
 	@JoinColumn(name = "memberId")
 	private Member member;
 
-	@ManyToMany
-	@JoinTable(name = "bookmark_folder")
-	private final Set<Post> posts = new HashSet<>();
+	// 기본 북마크이면 회원 아이디, 아니면 null. 유니크 인덱스로 회원당 기본 북마크를 하나만 허용한다.
+	private Long defaultMemberId;
 
 	@Builder
 	public Bookmark(Member member, String title, String description) {
@@ -57,15 +59,9 @@ public class Bookmark extends BaseEntity {
 	}
 
 	public static Bookmark defaultBookmark(Member member) {
-		return new Bookmark(member, "기본", "기본값으로 제공되는 북마크입니다.");
-	}
-
-	public void addPost(Post post) {
-		this.posts.add(post);
-	}
-
-	public void removePostBy(Long postId) {
-		this.posts.removeIf(p -> p.getId().equals(postId));
+		Bookmark bookmark = new Bookmark(member, DEFAULT_TITLE, DEFAULT_DESCRIPTION);
+		bookmark.defaultMemberId = member.getId();
+		return bookmark;
 	}
 
 	private String validateTitle(String title) {
@@ -0,0 +1,48 @@
+package com.clover.habbittracker.domain.bookmark.entity;
+
+import static jakarta.persistence.FetchType.*;
+import static jakarta.persistence.GenerationType.*;
+import static lombok.AccessLevel.*;
+
+import java.util.Objects;
+
+import com.clover.habbittracker.domain.post.entity.Post;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 북마크 폴더에 담긴 게시글 한 건. 폴더 전체를 읽지 않고 BookmarkPostRepository 로 직접 추가/삭제한다.
+@Getter
+@Entity
+@Table(name = "bookmark_folder",
+	indexes = {
+		@Index(name = "idx_bookmark_folder_unique", columnList = "bookmarkId,postId", unique = true)
+	}
+)
+@NoArgsConstructor(access = PROTECTED)
+public class BookmarkPost {
+
+	@Id
+	@GeneratedValue(strategy = IDENTITY)
+	private Long id;
+
+	@ManyToOne(fetch = LAZY)
+	@JoinColumn(name = "bookmarkId")
+	private Bookmark bookmark;
+
+	@ManyToOne(fetch = LAZY)
+	@JoinColumn(name = "postId")
+	private Post post;
+
+	public BookmarkPost(Bookmark bookmark, Post post) {
+		this.bookmark = Objects.requireNonNull(bookmark, "북마크 정보는 필수입니다.");
+		this.post = Objects.requireNonNull(post, "게시글 정보는 필수입니다.");
+	}
+}
@@ -1,9 +1,13 @@
 package com.clover.habbittracker.domain.bookmark.repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+
 import com.clover.habbittracker.domain.bookmark.entity.Bookmark;
+import com.clover.habbittracker.domain.post.dto.PostSimpleResponse;
 
 public interface BookmarkCustomRepository {
 
@@ -11,5 +15,13 @@ public interface BookmarkCustomRepository {
 
 	Optional<Bookmark> findByIdAndMemberId(Long bookmarkId, Long memberId);
 
+	Optional<Bookmark> findDefaultByMemberId(Long memberId);
+
+	Long insertDefaultIfAbsent(Long memberId);
+
 	void deleteByIdAndMemberId(Long bookmarkId, Long memberId);
+
+	Map<Long, List<PostSimpleResponse>> findPostsInBookmarks(List<Long> bookmarkIds, int postSize);
+
+	List<PostSimpleResponse> findPostsInBookmark(Long bookmarkId, Pageable pageable);
 }
@@ -1,22 +1,54 @@
 package com.clover.habbittracker.domain.bookmark.repository;
 
 import static com.clover.habbittracker.domain.bookmark.entity.QBookmark.*;
+import static com.clover.habbittracker.domain.bookmark.entity.QBookmarkPost.*;
+import static com.clover.habbittracker.domain.post.entity.QPost.*;
+import static java.util.stream.Collectors.*;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import com.clover.habbittracker.domain.bookmark.entity.Bookmark;
+import com.clover.habbittracker.domain.post.dto.PostSimpleResponse;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
 @Repository
 @RequiredArgsConstructor
 public class BookmarkCustomRepositoryImpl implements BookmarkCustomRepository {
 
+	// 폴더별로 최근에 담긴 게시글 postSize 개만 남긴다. JPQL 은 윈도우 함수를 지원하지 않아 네이티브 쿼리를 사용한다.
+	private static final String RANKED_BOOKMARK_POSTS_SQL = """
+		SELECT ranked.bookmark_id, ranked.post_id
+		FROM (
+			SELECT bf.bookmark_id, bf.post_id,
+				ROW_NUMBER() OVER (PARTITION BY bf.bookmark_id ORDER BY bf.id DESC) AS rn
+			FROM bookmark_folder bf
+			JOIN post p ON p.id = bf.post_id AND p.deleted = false
+			WHERE bf.bookmark_id IN (:bookmarkIds)
+		) ranked
+		WHERE ranked.rn <= :postSize
+		ORDER BY ranked.bookmark_id, ranked.rn
+		""";
+
+	// (default_member_id) 유니크 키에 막히면 새로 만들지 않고 LAST_INSERT_ID(id) 로 기존 기본 북마크의 아이디를 남긴다.
+	private static final String INSERT_DEFAULT_BOOKMARK_SQL = """
+		INSERT INTO bookmark (title, description, member_id, default_member_id)
+		VALUES (:title, :description, :memberId, :memberId)
+		ON DUPLICATE KEY UPDATE id = LAST_INSERT_ID(id)
+		""";
+
 	private final JPAQueryFactory jpaQueryFactory;
+	private final EntityManager entityManager;
 
 	@Override
 	public List<Bookmark> findByMemberId(Long memberId) {
@@ -37,11 +69,105 @@ public class BookmarkCustomRepositoryImpl implements BookmarkCustomRepository {
 		return Optional.ofNullable(result);
 	}
 
+	@Override
+	public Optional<Bookmark> findDefaultByMemberId(Long memberId) {
+
+		Bookmark result = jpaQueryFactory.selectFrom(bookmark)
+			.where(bookmark.defaultMemberId.eq(memberId))
+			.fetchOne();
+
+		return Optional.ofNullable(result);
+	}
+
+	// 동시에 요청되어도 기본 북마크는 하나만 만들어지고, 두 요청 모두 같은 아이디를 받는다.
+	@Override
+	public Long insertDefaultIfAbsent(Long memberId) {
+
+		entityManager.createNativeQuery(INSERT_DEFAULT_BOOKMARK_SQL)
+			.setParameter("title", Bookmark.DEFAULT_TITLE)
+			.setParameter("description", Bookmark.DEFAULT_DESCRIPTION)
+			.setParameter("memberId", memberId)
+			.executeUpdate();
+
+		return ((Number)entityManager.createNativeQuery("SELECT LAST_INSERT_ID()").getSingleResult()).longValue();
+	}
+
 	@Override
 	public void deleteByIdAndMemberId(Long bookmarkId, Long memberId) {
 
+		// 벌크 삭제는 연관 엔티티로 전파되지 않으므로 폴더에 담긴 게시글을 먼저 지운다.
+		jpaQueryFactory.delete(bookmarkPost)
+			.where(bookmarkPost.bookmark.id.in(
+				JPAExpressions.select(bookmark.id)
+					.from(bookmark)
+					.where(bookmark.id.eq(bookmarkId).and(bookmark.member.id.eq(memberId)))))
+			.execute();
+
 		jpaQueryFactory.delete(bookmark)
 			.where(bookmark.id.eq(bookmarkId).and(bookmark.member.id.eq(memberId)))
 			.execute();
 	}
+
+	@Override
+	public Map<Long, List<PostSimpleResponse>> findPostsInBookmarks(List<Long> bookmarkIds, int postSize) {
+
+		if (bookmarkIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		@SuppressWarnings("unchecked")
+		List<Object[]> bookmarkPosts = entityManager.createNativeQuery(RANKED_BOOKMARK_POSTS_SQL)
+			.setParameter("bookmarkIds", bookmarkIds)
+			.setParameter("postSize", postSize)
+			.getResultList();
+
+		if (bookmarkPosts.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		List<Long> postIds = bookmarkPosts.stream()
+			.map(row -> ((Number)row[1]).longValue())
+			.distinct()
+			.toList();
+
+		Map<Long, PostSimpleResponse> posts = jpaQueryFactory
+			.select(post.id, post.title, post.category)
+			.from(post)
+			.where(post.id.in(postIds))
+			.fetch()
+			.stream()
+			.collect(toMap(tuple -> tuple.get(post.id), this::toPostSimpleResponse));
+
+		return bookmarkPosts.stream()
+			.filter(row -> posts.containsKey(((Number)row[1]).longValue()))
+			.collect(groupingBy(
+				row -> ((Number)row[0]).longValue(),
+				mapping(row -> posts.get(((Number)row[1]).longValue()), toList())
+			));
+	}
+
+	@Override
+	public List<PostSimpleResponse> findPostsInBookmark(Long bookmarkId, Pageable pageable) {
+
+		return jpaQueryFactory
+			.select(post.id, post.title, post.category)
+			.from(bookmarkPost)
+			.join(bookmarkPost.post, post)
+			.where(bookmarkPost.bookmark.id.eq(bookmarkId))
+			.orderBy(bookmarkPost.id.desc())
+			.offset(pageable.getOffset())
+			.limit(pageable.getPageSize())
+			.fetch()
+			.stream()
+			.map(this::toPostSimpleResponse)
+			.toList();
+	}
+
+	private PostSimpleResponse toPostSimpleResponse(Tuple tuple) {
+		return PostSimpleResponse.builder()
+			.id(tuple.get(post.id))
+			.title(tuple.get(post.title))
+			.category(tuple.get(post.category))
+			.build();
+	}
 }
@@ -0,0 +1,29 @@
+package com.clover.habbittracker.domain.bookmark.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.clover.habbittracker.domain.bookmark.entity.BookmarkPost;
+
+public interface BookmarkPostRepository extends JpaRepository<BookmarkPost, Long> {
+
+	// (bookmark_id, post_id) 유니크 키로 중복 없이 한 건만 추가한다. 이미 담긴 게시글이면 0 을 반환한다.
+	@Modifying
+	@Query(value = "INSERT INTO bookmark_folder (bookmark_id, post_id) VALUES (:bookmarkId, :postId) "
+		+ "ON DUPLICATE KEY UPDATE bookmark_id = bookmark_id", nativeQuery = true)
+	int insert(@Param("bookmarkId") Long bookmarkId, @Param("postId") Long postId);
+
+	@Modifying
+	@Query("DELETE FROM BookmarkPost bp WHERE bp.bookmark.id = :bookmarkId AND bp.post.id = :postId")
+	int delete(@Param("bookmarkId") Long bookmarkId, @Param("postId") Long postId);
+
+	// 회원의 폴더와 조회한 게시글 목록만 세미 조인하므로 북마크 수와 상관없이 페이지 크기만큼만 확인한다.
+	@Query("SELECT DISTINCT bp.post.id FROM BookmarkPost bp "
+		+ "WHERE bp.bookmark.member.id = :memberId AND bp.post.id IN :postIds")
+	List<Long> findBookmarkedPostIds(@Param("memberId") Long memberId, @Param("postIds") Collection<Long> postIds);
+}
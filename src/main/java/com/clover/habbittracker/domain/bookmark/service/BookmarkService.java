@@ -1,19 +1,21 @@
 package com.clover.habbittracker.domain.bookmark.service;
 
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.clover.habbittracker.domain.bookmark.dto.BookmarkResponse;
 import com.clover.habbittracker.domain.bookmark.dto.CreateBookmarkRequest;
 import com.clover.habbittracker.domain.bookmark.entity.Bookmark;
+import com.clover.habbittracker.domain.bookmark.repository.BookmarkPostRepository;
 import com.clover.habbittracker.domain.bookmark.repository.BookmarkRepository;
 import com.clover.habbittracker.domain.member.entity.Member;
-import com.clover.habbittracker.domain.member.repository.MemberRepository;
+import com.clover.habbittracker.domain.member.service.MemberService;
 import com.clover.habbittracker.domain.post.dto.PostSimpleResponse;
-import com.clover.habbittracker.domain.post.entity.Post;
 import com.clover.habbittracker.domain.post.repository.PostRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -24,7 +26,8 @@ import lombok.RequiredArgsConstructor;
 public class BookmarkService {
 
 	private final BookmarkRepository bookMarkRepository;
-	private final MemberRepository memberRepository;
+	private final BookmarkPostRepository bookmarkPostRepository;
+	private final MemberService memberService;
 	private final PostRepository postRepository;
 
 	@Transactional
@@ -40,25 +43,32 @@ public class BookmarkService {
 	@Transactional
 	public void addPost(Long bookmarkId, Long memberId, Long postId) {
 
-		Member member = getMemberBy(memberId);
-		Post post = getPostBy(postId);
+		checkPostExists(postId);
 
-		Bookmark bookmark = bookMarkRepository.findById(bookmarkId)
-			.orElseGet(() -> Bookmark.defaultBookmark(member));
+		Long targetBookmarkId = bookMarkRepository.findByIdAndMemberId(bookmarkId, memberId)
+			.map(Bookmark::getId)
+			.orElseGet(() -> getDefaultBookmarkId(bookmarkId, memberId));
 
-		bookmark.addPost(post);
+		// 폴더에 담긴 게시글을 읽지 않고 한 건만 추가한다.
+		bookmarkPostRepository.insert(targetBookmarkId, postId);
 	}
 
-	public List<BookmarkResponse> getAllBookmarks(Long memberId) {
-		return bookMarkRepository.findByMemberId(memberId)
-			.stream()
-			.map(bookmark -> BookmarkResponse.from(bookmark, postToResponse(bookmark.getPosts())))
+	// 폴더 목록과 폴더별 게시글 postSize 개를 폴더 수와 상관없이 한 번에 조회한다.
+	public List<BookmarkResponse> getAllBookmarks(Long memberId, int postSize) {
+		List<Bookmark> bookmarks = bookMarkRepository.findByMemberId(memberId);
+		List<Long> bookmarkIds = bookmarks.stream().map(Bookmark::getId).toList();
+		Map<Long, List<PostSimpleResponse>> posts = bookMarkRepository.findPostsInBookmarks(bookmarkIds, postSize);
+
+		return bookmarks.stream()
+			.map(bookmark -> BookmarkResponse.from(bookmark,
+				posts.getOrDefault(bookmark.getId(), Collections.emptyList())))
 			.toList();
 	}
 
-	public BookmarkResponse getBookmark(Long bookmarkId, Long memberId) {
+	public BookmarkResponse getBookmark(Long bookmarkId, Long memberId, Pageable pageable) {
 		return bookMarkRepository.findByIdAndMemberId(bookmarkId, memberId)
-			.map(bookmark -> BookmarkResponse.from(bookmark, postToResponse(bookmark.getPosts())))
+			.map(bookmark -> BookmarkResponse.from(bookmark,
+				bookMarkRepository.findPostsInBookmark(bookmark.getId(), pageable)))
 			.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 	}
 
@@ -73,22 +83,26 @@ public class BookmarkService {
 		Bookmark bookmark = bookMarkRepository.findByIdAndMemberId(bookmarkId, memberId)
 			.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 북마크입니다."));
 
-		bookmark.removePostBy(postId);
+		bookmarkPostRepository.delete(bookmark.getId(), postId);
 	}
 
-	private Member getMemberBy(Long memberId) {
-		return memberRepository.findById(memberId)
-			.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+	// 다른 회원의 북마크이면 예외를 던지고, 없는 북마크이면 회원의 기본 북마크를 사용한다. 기본 북마크는 한 번만 만든다.
+	private Long getDefaultBookmarkId(Long bookmarkId, Long memberId) {
+		if (bookMarkRepository.existsById(bookmarkId)) {
+			throw new IllegalArgumentException("존재하지 않는 북마크입니다.");
+		}
+		return bookMarkRepository.findDefaultByMemberId(memberId)
+			.map(Bookmark::getId)
+			.orElseGet(() -> bookMarkRepository.insertDefaultIfAbsent(memberId));
 	}
 
-	private Post getPostBy(Long postId) {
-		return postRepository.findById(postId)
-			.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다."));
+	private Member getMemberBy(Long memberId) {
+		return memberService.getMemberReference(memberId);
 	}
 
-	private List<PostSimpleResponse> postToResponse(Set<Post> posts) {
-		return posts.stream()
-			.map(PostSimpleResponse::from)
-			.toList();
+	private void checkPostExists(Long postId) {
+		if (!postRepository.existsById(postId)) {
+			throw new IllegalArgumentException("존재하지 않는 게시글입니다.");
+		}
 	}
 }
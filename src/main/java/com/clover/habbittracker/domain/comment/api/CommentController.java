@@ -4,6 +4,8 @@ import static org.springframework.http.HttpStatus.*;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,11 +14,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.clover.habbittracker.domain.comment.dto.CommentCursorResponse;
 import com.clover.habbittracker.domain.comment.dto.CommentRequest;
 import com.clover.habbittracker.domain.comment.dto.CommentResponse;
+import com.clover.habbittracker.domain.comment.dto.CommentThreadResponse;
 import com.clover.habbittracker.domain.comment.service.CommentService;
 import com.clover.habbittracker.global.base.dto.ApiResponse;
 
@@ -48,6 +53,25 @@ public class CommentController {
 		return ApiResponse.success(commentList);
 	}
 
+	@GetMapping(params = "cursor")
+	public ApiResponse<CommentCursorResponse> getCommentListByCursor(
+		@PathVariable Long postId,
+		@RequestParam(required = false) Long cursor,
+		@PageableDefault(size = 20) Pageable pageable
+	) {
+		CommentCursorResponse commentList = commentService.getCommentsOf(postId, cursor, pageable.getPageSize());
+		return ApiResponse.success(commentList);
+	}
+
+	@GetMapping("/thread")
+	public ApiResponse<List<CommentThreadResponse>> getCommentThread(
+		@PathVariable Long postId,
+		@PageableDefault(size = 20) Pageable pageable
+	) {
+		List<CommentThreadResponse> commentThread = commentService.getCommentThreadOf(postId, pageable);
+		return ApiResponse.success(commentThread);
+	}
+
 	@DeleteMapping("/{commentId}")
 	@ResponseStatus(NO_CONTENT)
 	public ApiResponse<Void> deleteComment(
@@ -79,6 +103,17 @@ public class CommentController {
 		return ApiResponse.success(replyList);
 	}
 
+	@GetMapping(value = "/{commentId}/reply", params = "cursor")
+	public ApiResponse<CommentCursorResponse> getReplyListByCursor(
+		@PathVariable Long postId,
+		@PathVariable Long commentId,
+		@RequestParam(required = false) Long cursor,
+		@PageableDefault(size = 20) Pageable pageable
+	) {
+		CommentCursorResponse replyList = commentService.getReplyList(commentId, postId, cursor, pageable.getPageSize());
+		return ApiResponse.success(replyList);
+	}
+
 	@PostMapping("/{commentId}/reply")
 	@ResponseStatus(CREATED)
 	public ApiResponse<Void> createReply(
@@ -0,0 +1,14 @@
+package com.clover.habbittracker.domain.comment.dto;
+
+import java.util.List;
+
+public record CommentCursorResponse(
+	List<CommentResponse> comments,
+	boolean hasNext,
+	Long nextCursor
+) {
+	public static CommentCursorResponse of(List<CommentResponse> comments, boolean hasNext) {
+		Long nextCursor = hasNext ? comments.get(comments.size() - 1).id() : null;
+		return new CommentCursorResponse(comments, hasNext, nextCursor);
+	}
+}
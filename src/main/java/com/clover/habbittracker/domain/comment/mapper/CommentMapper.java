@@ -2,13 +2,17 @@ package com.clover.habbittracker.domain.comment.mapper;
 
 import static org.mapstruct.ReportingPolicy.*;
 
+import java.util.List;
+
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Mappings;
 
 import com.clover.habbittracker.domain.comment.dto.CommentRequest;
 import com.clover.habbittracker.domain.comment.dto.CommentResponse;
+import com.clover.habbittracker.domain.comment.dto.CommentThreadResponse;
 import com.clover.habbittracker.domain.comment.entity.Comment;
+import com.clover.habbittracker.domain.emoji.dto.EmojiResponse;
 import com.clover.habbittracker.domain.member.entity.Member;
 import com.clover.habbittracker.domain.post.entity.Post;
 
@@ -29,4 +33,18 @@ public interface CommentMapper {
 
 	@Mapping(source = "comment.member.id", target = "authorId")
 	CommentResponse toCommentResponse(Comment comment);
+
+	@Mappings({
+		@Mapping(source = "comment.member.id", target = "authorId"),
+		@Mapping(source = "emojis", target = "emojis")
+	})
+	CommentResponse toCommentResponse(Comment comment, List<EmojiResponse> emojis);
+
+	@Mappings({
+		@Mapping(source = "comment.member.id", target = "authorId"),
+		@Mapping(source = "emojis", target = "emojis"),
+		@Mapping(source = "replies", target = "replies")
+	})
+	CommentThreadResponse toCommentThreadResponse(Comment comment, List<EmojiResponse> emojis,
+		List<CommentThreadResponse> replies);
 }
@@ -1,8 +1,11 @@
 package com.clover.habbittracker.domain.comment.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+
 import com.clover.habbittracker.domain.comment.entity.Comment;
 
 public interface CommentCustomRepository {
@@ -11,5 +14,15 @@ public interface CommentCustomRepository {
 
 	List<Comment> findChildCommentById(Long commentId);
 
+	List<Comment> findChildCommentAfter(Long commentId, Long cursor, int limit);
+
 	List<Comment> findByPostId(Long postId);
+
+	List<Comment> findByPostIdAfter(Long postId, Long cursor, int limit);
+
+	List<Comment> findRootsByPostId(Long postId, Pageable pageable);
+
+	List<Comment> findRepliesByParentIds(Collection<Long> parentIds);
+
+	long softDeleteAllByPostId(Long postId);
 }
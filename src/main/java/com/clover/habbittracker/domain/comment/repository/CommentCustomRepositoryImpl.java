@@ -4,9 +4,11 @@ import static com.clover.habbittracker.domain.comment.entity.QComment.*;
 import static com.clover.habbittracker.domain.member.entity.QMember.*;
 import static com.clover.habbittracker.domain.post.entity.QPost.*;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import com.clover.habbittracker.domain.comment.entity.Comment;
@@ -46,10 +48,61 @@ public class CommentCustomRepositoryImpl implements CommentCustomRepository {
 			.fetch();
 	}
 
+	// id 기준 키셋 페이징. cursor 가 null 이면 첫 페이지를 조회한다.
+	@Override
+	public List<Comment> findByPostIdAfter(Long postId, Long cursor, int limit) {
+		return jpaQueryFactory
+			.selectFrom(comment)
+			.leftJoin(comment.member, member)
+			.fetchJoin()
+			.where(eqPost(postId).and(NotReply()), afterCursor(cursor))
+			.orderBy(comment.id.asc())
+			.limit(limit)
+			.fetch();
+	}
+
+	// 루트 댓글만 id 순으로 페이징한다. 답글은 findRepliesByParentIds 로 페이지의 루트 댓글 것만 조회한다.
+	@Override
+	public List<Comment> findRootsByPostId(Long postId, Pageable pageable) {
+		return jpaQueryFactory
+			.selectFrom(comment)
+			.leftJoin(comment.member, member)
+			.fetchJoin()
+			.where(eqPost(postId).and(NotReply()))
+			.orderBy(comment.id.asc())
+			.offset(pageable.getOffset())
+			.limit(pageable.getPageSize())
+			.fetch();
+	}
+
+	@Override
+	public List<Comment> findRepliesByParentIds(Collection<Long> parentIds) {
+		return jpaQueryFactory
+			.selectFrom(comment)
+			.leftJoin(comment.member, member)
+			.fetchJoin()
+			.where(comment.parentId.in(parentIds))
+			.orderBy(comment.id.asc())
+			.fetch();
+	}
+
 	private BooleanExpression NotReply() {
 		return comment.parentId.isNull();
 	}
 
+	// 답글을 포함한 게시글의 댓글 전체를 한 번의 UPDATE 로 삭제 처리한다.
+	@Override
+	public long softDeleteAllByPostId(Long postId) {
+		return jpaQueryFactory.update(comment)
+			.set(comment.deleted, true)
+			.where(eqPost(postId))
+			.execute();
+	}
+
+	private BooleanExpression afterCursor(Long cursor) {
+		return cursor == null ? null : comment.id.gt(cursor);
+	}
+
 	private BooleanExpression eqPost(Long postId) {
 		return comment.post.id.eq(postId);
 	}
@@ -62,4 +115,15 @@ public class CommentCustomRepositoryImpl implements CommentCustomRepository {
 			.fetch();
 	}
 
+	@Override
+	public List<Comment> findChildCommentAfter(Long commentId, Long cursor, int limit) {
+		return jpaQueryFactory.selectFrom(comment)
+			.leftJoin(comment.member, member)
+			.fetchJoin()
+			.where(comment.parentId.eq(commentId), afterCursor(cursor))
+			.orderBy(comment.id.asc())
+			.limit(limit)
+			.fetch();
+	}
+
 }
@@ -6,4 +6,5 @@ import com.clover.habbittracker.domain.comment.entity.Comment;
 
 public interface CommentRepository extends CommentCustomRepository, JpaRepository<Comment,Long> {
 
+	boolean existsByIdAndPostId(Long id, Long postId);
 }
\ No newline at end of file
@@ -2,8 +2,12 @@ package com.clover.habbittracker.domain.comment.service;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+
+import com.clover.habbittracker.domain.comment.dto.CommentCursorResponse;
 import com.clover.habbittracker.domain.comment.dto.CommentRequest;
 import com.clover.habbittracker.domain.comment.dto.CommentResponse;
+import com.clover.habbittracker.domain.comment.dto.CommentThreadResponse;
 
 public interface CommentService {
 
@@ -11,10 +15,16 @@ public interface CommentService {
 
 	List<CommentResponse> getCommentsOf(Long postId);
 
+	CommentCursorResponse getCommentsOf(Long postId, Long cursor, int size);
+
+	List<CommentThreadResponse> getCommentThreadOf(Long postId, Pageable pageable);
+
 	CommentResponse updateComment(Long memberId, Long commentId, Long postId, CommentRequest request);
 
 	List<CommentResponse> getReplyList(Long commentId, Long postId);
 
+	CommentCursorResponse getReplyList(Long commentId, Long postId, Long cursor, int size);
+
 	void createReply(Long memberId, Long commentId, Long postId, CommentRequest request);
 
 	void deleteComment(Long memberId, Long commentId, Long postId);
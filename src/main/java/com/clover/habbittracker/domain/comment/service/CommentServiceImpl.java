@@ -1,19 +1,27 @@
 package com.clover.habbittracker.domain.comment.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.clover.habbittracker.domain.comment.dto.CommentCursorResponse;
 import com.clover.habbittracker.domain.comment.dto.CommentRequest;
 import com.clover.habbittracker.domain.comment.dto.CommentResponse;
+import com.clover.habbittracker.domain.comment.dto.CommentThreadResponse;
 import com.clover.habbittracker.domain.comment.entity.Comment;
 import com.clover.habbittracker.domain.comment.mapper.CommentMapper;
 import com.clover.habbittracker.domain.comment.repository.CommentRepository;
+import com.clover.habbittracker.domain.emoji.dto.EmojiResponse;
+import com.clover.habbittracker.domain.emoji.entity.Emoji;
+import com.clover.habbittracker.domain.emoji.service.EmojiService;
 import com.clover.habbittracker.domain.member.entity.Member;
-import com.clover.habbittracker.domain.member.exception.MemberNotFoundException;
-import com.clover.habbittracker.domain.member.repository.MemberRepository;
+import com.clover.habbittracker.domain.member.service.MemberService;
 import com.clover.habbittracker.domain.post.entity.Post;
 import com.clover.habbittracker.domain.post.exception.PostNotFoundException;
 import com.clover.habbittracker.domain.post.repository.PostRepository;
@@ -27,17 +35,19 @@ import lombok.RequiredArgsConstructor;
 public class CommentServiceImpl implements CommentService {
 
 	private final CommentRepository commentRepository;
-	private final MemberRepository memberRepository;
+	private final MemberService memberService;
 	private final PostRepository postRepository;
 	private final CommentMapper commentMapper;
+	private final EmojiService emojiService;
 
 	@Override
 	@Transactional
 	public CommentResponse createComment(Long memberId, Long postId, CommentRequest request) {
-		Member member = getMemberBy(memberId);
-		Post post = getPostBy(postId);
+		Member member = getMemberReferenceBy(memberId);
+		Post post = getPostReferenceBy(postId);
 		Comment comment = commentMapper.toComment(request, member, post);
 		Comment saveComment = commentRepository.save(comment);
+		postRepository.updateCommentCount(postId, 1);
 
 		return commentMapper.toCommentResponse(saveComment);
 	}
@@ -45,15 +55,44 @@ public class CommentServiceImpl implements CommentService {
 	@Override
 	public List<CommentResponse> getCommentsOf(Long postId) {
 		List<Comment> commentList = commentRepository.findByPostId(postId);
-		return commentList.stream().map(commentMapper::toCommentResponse).toList();
+		return toCommentResponses(commentList);
 	}
 
 	@Override
+	public CommentCursorResponse getCommentsOf(Long postId, Long cursor, int size) {
+		List<Comment> commentList = commentRepository.findByPostIdAfter(postId, cursor, size + 1);
+		return toCommentCursorResponse(commentList, size);
+	}
+
+	// 루트 댓글은 DB 에서 페이징하고, 해당 루트 댓글들의 답글만 깊이별로 한 번씩 조회해 트리로 조립한다.
+	@Override
+	public List<CommentThreadResponse> getCommentThreadOf(Long postId, Pageable pageable) {
+		List<Comment> roots = commentRepository.findRootsByPostId(postId, pageable);
+		Map<Long, List<Comment>> repliesByParentId = new HashMap<>();
+		List<Long> parentIds = roots.stream().map(Comment::getId).toList();
+		List<Long> commentIds = new ArrayList<>(parentIds);
+		while (!parentIds.isEmpty()) {
+			List<Comment> replies = commentRepository.findRepliesByParentIds(parentIds);
+			replies.forEach(reply ->
+				repliesByParentId.computeIfAbsent(reply.getParentId(), id -> new ArrayList<>()).add(reply));
+			parentIds = replies.stream().map(Comment::getId).toList();
+			commentIds.addAll(parentIds);
+		}
+		Map<Long, List<EmojiResponse>> emojis = emojiService.getAllEmojisInDomains(Emoji.Domain.COMMENT, commentIds);
+
+		return roots.stream()
+			.map(root -> toCommentThreadResponse(root, repliesByParentId, emojis))
+			.toList();
+	}
+
+	@Override
+	@Transactional
 	public void deleteComment(Long memberId, Long commentId, Long postId) {
 		Comment comment = commentRepository.findById(commentId)
 			.orElseThrow(() -> new IllegalArgumentException("NotFoundComment"));
 		verifyPermissions(comment.getMember(), memberId);
 		commentRepository.delete(comment);
+		postRepository.updateCommentCount(comment.getPost().getId(), -1);
 	}
 
 	@Override
@@ -69,18 +108,51 @@ public class CommentServiceImpl implements CommentService {
 	@Override
 	public List<CommentResponse> getReplyList(Long commentId, Long postId) {
 		List<Comment> childCommentList = commentRepository.findChildCommentById(commentId);
-		return childCommentList.stream()
-			.map(commentMapper::toCommentResponse)
-			.toList();
+		return toCommentResponses(childCommentList);
+	}
+
+	@Override
+	public CommentCursorResponse getReplyList(Long commentId, Long postId, Long cursor, int size) {
+		List<Comment> childCommentList = commentRepository.findChildCommentAfter(commentId, cursor, size + 1);
+		return toCommentCursorResponse(childCommentList, size);
 	}
 
 	@Override
 	@Transactional
 	public void createReply(Long memberId, Long commentId, Long postId, CommentRequest request) {
-		Member member = getMemberBy(memberId);
-		Post post = getPostBy(postId);
+		Member member = getMemberReferenceBy(memberId);
+		Post post = getPostReferenceBy(postId);
+		if (!commentRepository.existsByIdAndPostId(commentId, postId)) {
+			throw new IllegalArgumentException("NotFoundComment");
+		}
 		Comment reply = commentMapper.toReply(request, member, post, commentId);
 		commentRepository.save(reply);
+		postRepository.updateCommentCount(postId, 1);
+	}
+
+	// 댓글마다 이모지를 조회하지 않도록 댓글 목록의 이모지를 한 번에 조회한다.
+	private List<CommentResponse> toCommentResponses(List<Comment> comments) {
+		List<Long> commentIds = comments.stream().map(Comment::getId).toList();
+		Map<Long, List<EmojiResponse>> emojis = emojiService.getAllEmojisInDomains(Emoji.Domain.COMMENT, commentIds);
+		return comments.stream()
+			.map(comment -> commentMapper.toCommentResponse(comment, emojis.getOrDefault(comment.getId(), List.of())))
+			.toList();
+	}
+
+	// size + 1 개를 조회한 결과로 다음 페이지 존재 여부를 판단한다.
+	private CommentCursorResponse toCommentCursorResponse(List<Comment> fetched, int size) {
+		boolean hasNext = fetched.size() > size;
+		List<Comment> comments = hasNext ? fetched.subList(0, size) : fetched;
+		return CommentCursorResponse.of(toCommentResponses(comments), hasNext);
+	}
+
+	private CommentThreadResponse toCommentThreadResponse(Comment comment,
+		Map<Long, List<Comment>> repliesByParentId, Map<Long, List<EmojiResponse>> emojis) {
+		List<CommentThreadResponse> replies = repliesByParentId.getOrDefault(comment.getId(), List.of())
+			.stream()
+			.map(reply -> toCommentThreadResponse(reply, repliesByParentId, emojis))
+			.toList();
+		return commentMapper.toCommentThreadResponse(comment, emojis.getOrDefault(comment.getId(), List.of()), replies);
 	}
 
 	private void verifyPermissions(Member member, Long memberId) {
@@ -89,13 +161,15 @@ public class CommentServiceImpl implements CommentService {
 		}
 	}
 
-	private Post getPostBy(Long postId) {
-		return postRepository.findById(postId)
-			.orElseThrow(() -> new PostNotFoundException(postId));
+	// 외래키만 필요하므로 엔티티를 읽지 않고 존재 여부만 확인한 뒤 프록시를 사용한다.
+	private Post getPostReferenceBy(Long postId) {
+		if (!postRepository.existsById(postId)) {
+			throw new PostNotFoundException(postId);
+		}
+		return postRepository.getReferenceById(postId);
 	}
 
-	private Member getMemberBy(Long memberId) {
-		return memberRepository.findById(memberId)
-			.orElseThrow(() -> new MemberNotFoundException(memberId));
+	private Member getMemberReferenceBy(Long memberId) {
+		return memberService.getMemberReference(memberId);
 	}
 }
@@ -50,8 +50,8 @@ public class DiaryController {
 
 	@PutMapping("/{diaryId}")
 	ResponseEntity<BaseResponse<DiaryResponse>> updateDiary(@PathVariable Long diaryId,
-		@Valid @RequestBody DiaryRequest request) {
-		DiaryResponse updateDiary = diaryService.updateDiary(diaryId, request);
+		@AuthenticationPrincipal Long memberId, @Valid @RequestBody DiaryRequest request) {
+		DiaryResponse updateDiary = diaryService.updateDiary(diaryId, request, memberId);
 		BaseResponse<DiaryResponse> response = BaseResponse.of(updateDiary, DIARY_UPDATE);
 		return ResponseEntity.ok().body(response);
 	}
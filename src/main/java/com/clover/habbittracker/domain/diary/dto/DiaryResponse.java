@@ -7,11 +7,13 @@ import java.time.LocalDateTime;
 import com.clover.habbittracker.domain.diary.entity.Diary;
 import com.fasterxml.jackson.annotation.JsonFormat;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 @Builder
 @Getter
+@AllArgsConstructor
 public class DiaryResponse {
 	private Long id;
 	private String content;
@@ -19,6 +21,7 @@ public class DiaryResponse {
 	private LocalDateTime createDate;
 	@JsonFormat(shape = Shape.STRING, pattern = "yyyy-MM-dd", timezone = "Asia/Seoul")
 	private LocalDateTime endUpdateDate;
+	private boolean locked; // 수정 마감 이후 diary.lock.interval 안에 true 가 된다.
 
 	public static DiaryResponse from(Diary diary) {
 		return DiaryResponse.builder()
@@ -26,6 +29,7 @@ public class DiaryResponse {
 			.content(diary.getContent())
 			.createDate(diary.getCreateDate())
 			.endUpdateDate(diary.getEndUpdateDate())
+			.locked(diary.isLocked())
 			.build();
 	}
 
@@ -9,6 +9,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -23,7 +24,12 @@ import lombok.Setter;
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name = "diary")
+@Table(name = "diary",
+	indexes = {
+		@Index(name = "idx_diary_member_created", columnList = "memberId,createdDate,endUpdateDate,content,locked"),
+		@Index(name = "idx_diary_lock", columnList = "locked,endUpdateDate")
+	}
+)
 public class Diary extends BaseEntity {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -34,6 +40,8 @@ public class Diary extends BaseEntity {
 
 	private LocalDateTime endUpdateDate;
 
+	private boolean locked; // 수정 마감이 지나 DiaryLockJob 이 잠근 회고록
+
 	@ManyToOne
 	@JoinColumn(name = "memberId")
 	private Member member;
@@ -2,22 +2,58 @@ package com.clover.habbittracker.domain.diary.repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.clover.habbittracker.domain.diary.dto.DiaryResponse;
 import com.clover.habbittracker.domain.diary.entity.Diary;
 
 public interface DiaryRepository extends JpaRepository<Diary, Long> {
+
+	// 월별 목록은 엔티티와 회원을 읽지 않고 (member_id, created_date, end_update_date, content, locked) 커버링 인덱스만으로 조회한다.
 	@Query("""
-			SELECT d
+			SELECT new com.clover.habbittracker.domain.diary.dto.DiaryResponse(d.id, d.content, d.createDate, d.endUpdateDate, d.locked)
 			FROM Diary d
 			WHERE d.member.id = :memberId
 			AND d.createDate BETWEEN :start AND :end
 			ORDER BY d.createDate DESC
 		""")
-	List<Diary> findByMemberId(@Param("memberId") Long memberId, @Param("start") LocalDateTime start,
+	List<DiaryResponse> findMonthlyDiaries(@Param("memberId") Long memberId, @Param("start") LocalDateTime start,
 		@Param("end") LocalDateTime end);
 
+	@Query("""
+			SELECT new com.clover.habbittracker.domain.diary.dto.DiaryResponse(d.id, d.content, d.createDate, d.endUpdateDate, d.locked)
+			FROM Diary d
+			WHERE d.id = :diaryId
+		""")
+	Optional<DiaryResponse> findResponseById(@Param("diaryId") Long diaryId);
+
+	// 작성자 확인과 수정 마감 확인을 한 번의 UPDATE 로 처리한다. 수정된 행 수를 반환한다.
+	@Modifying
+	@Query("""
+			UPDATE Diary d
+			SET d.content = :content, d.updateDate = :now
+			WHERE d.id = :diaryId
+			AND d.member.id = :memberId
+			AND d.locked = false
+			AND d.endUpdateDate > :now
+		""")
+	int updateContent(@Param("diaryId") Long diaryId, @Param("memberId") Long memberId,
+		@Param("content") String content, @Param("now") LocalDateTime now);
+
+	boolean existsByIdAndMemberId(Long diaryId, Long memberId);
+
+	// 수정 마감이 지난 회고록을 batchSize 개씩 잠근다. (locked, end_update_date) 인덱스 범위만 읽는다.
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE diary SET locked = true "
+		+ "WHERE locked = false AND end_update_date <= :now "
+		+ "LIMIT :batchSize", nativeQuery = true)
+	int lockExpired(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+
 }
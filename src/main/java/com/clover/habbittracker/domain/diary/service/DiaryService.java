@@ -10,7 +10,7 @@ public interface DiaryService {
 
 	List<DiaryResponse> getMyList(Long memberId, String date);
 
-	DiaryResponse updateDiary(Long diaryId, DiaryRequest request);
+	DiaryResponse updateDiary(Long diaryId, DiaryRequest request, Long memberId);
 
 	void delete(Long diaryId);
 }
@@ -3,7 +3,6 @@ package com.clover.habbittracker.domain.diary.service;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,8 +14,7 @@ import com.clover.habbittracker.domain.diary.exception.DiaryExpiredException;
 import com.clover.habbittracker.domain.diary.exception.DiaryNotFoundException;
 import com.clover.habbittracker.domain.diary.repository.DiaryRepository;
 import com.clover.habbittracker.domain.member.entity.Member;
-import com.clover.habbittracker.domain.member.exception.MemberNotFoundException;
-import com.clover.habbittracker.domain.member.repository.MemberRepository;
+import com.clover.habbittracker.domain.member.service.MemberService;
 import com.clover.habbittracker.global.util.DateUtil;
 
 import lombok.RequiredArgsConstructor;
@@ -27,11 +25,11 @@ public class DiaryServiceImpl implements DiaryService {
 
 	private final DiaryRepository diaryRepository;
 
-	private final MemberRepository memberRepository;
+	private final MemberService memberService;
 
 	@Override
 	public Long register(Long memberId, DiaryRequest request) {
-		Member member = memberRepository.findById(memberId).orElseThrow(() -> new MemberNotFoundException(memberId));
+		Member member = memberService.getMemberReference(memberId);
 
 		Diary diary = Diary.builder()
 			.content(request.getContent())
@@ -46,23 +44,23 @@ public class DiaryServiceImpl implements DiaryService {
 	@Override
 	public List<DiaryResponse> getMyList(Long memberId, String date) {
 		Map<String, LocalDateTime> dateMap = DateUtil.getMonthStartAndEndDate(date);
-		return diaryRepository.findByMemberId(memberId, dateMap.get("start"), dateMap.get("end"))
-			.stream()
-			.map(DiaryResponse::from)
-			.toList();
+		return diaryRepository.findMonthlyDiaries(memberId, dateMap.get("start"), dateMap.get("end"));
 	}
 
 	@Override
 	@Transactional
-	public DiaryResponse updateDiary(Long diaryId, DiaryRequest request) {
-		Diary diary = diaryRepository.findById(diaryId)
-			.orElseThrow(() -> new DiaryNotFoundException(diaryId));
-		if (diary.getEndUpdateDate().isBefore(LocalDateTime.now())) {
-			throw new DiaryExpiredException(diaryId);
+	public DiaryResponse updateDiary(Long diaryId, DiaryRequest request, Long memberId) {
+		int updated = diaryRepository.updateContent(diaryId, memberId, request.getContent(), LocalDateTime.now());
+		if (updated == 0) {
+			// 실패한 경우에만 원인을 구분하기 위해 한 번 더 조회한다.
+			if (diaryRepository.existsByIdAndMemberId(diaryId, memberId)) {
+				throw new DiaryExpiredException(diaryId);
+			}
+			throw new DiaryNotFoundException(diaryId);
 		}
-		Optional.ofNullable(request.getContent()).ifPresent(diary::setContent);
 
-		return DiaryResponse.from(diary);
+		return diaryRepository.findResponseById(diaryId)
+			.orElseThrow(() -> new DiaryNotFoundException(diaryId));
 	}
 
 	@Override
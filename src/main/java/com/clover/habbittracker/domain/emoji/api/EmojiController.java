@@ -1,12 +1,14 @@
 package com.clover.habbittracker.domain.emoji.api;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -14,20 +16,32 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.clover.habbittracker.domain.emoji.dto.EmojiBatchRequest;
 import com.clover.habbittracker.domain.emoji.dto.EmojiResponse;
 import com.clover.habbittracker.domain.emoji.entity.Emoji;
 import com.clover.habbittracker.domain.emoji.service.EmojiService;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 @RestController
 @RequiredArgsConstructor
-@RequestMapping("/{domain}/{domainId}/emojis")
+@RequestMapping("/{domain}")
 public class EmojiController {
 
 	private final EmojiService emojiService;
 
-	@GetMapping
+	@GetMapping("/emojis")
+	public ResponseEntity<Map<Long, List<EmojiResponse>>> getAllEmojisIn(
+		@PathVariable Emoji.Domain domain,
+		@Valid @ModelAttribute EmojiBatchRequest request
+	) {
+		Map<Long, List<EmojiResponse>> emojis = emojiService.getAllEmojisInDomains(domain, request.domainIds());
+
+		return ResponseEntity.ok().body(emojis);
+	}
+
+	@GetMapping("/{domainId}/emojis")
 	public ResponseEntity<List<EmojiResponse>> getAllEmojis(
 		@PathVariable Emoji.Domain domain,
 		@PathVariable Long domainId
@@ -37,7 +51,7 @@ public class EmojiController {
 		return ResponseEntity.ok().body(emojis);
 	}
 
-	@PutMapping
+	@PutMapping("/{domainId}/emojis")
 	public ResponseEntity<EmojiResponse> saveEmoji(
 		@AuthenticationPrincipal Long memberId,
 		@PathVariable Emoji.Domain domain,
@@ -49,7 +63,7 @@ public class EmojiController {
 		return ResponseEntity.ok().body(emoji);
 	}
 
-	@DeleteMapping
+	@DeleteMapping("/{domainId}/emojis")
 	@ResponseStatus(HttpStatus.NO_CONTENT)
 	public void deleteEmoji( // soft delete
 		@AuthenticationPrincipal Long memberId,
@@ -0,0 +1,13 @@
+package com.clover.habbittracker.domain.emoji.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record EmojiBatchRequest(
+	@NotEmpty(message = "조회할 도메인 아이디가 비어 있을 수 없습니다.")
+	@Size(max = 100, message = "이모지는 한번에 100개의 도메인까지 조회할 수 있습니다.")
+	List<Long> domainIds
+) {
+}
@@ -0,0 +1,19 @@
+package com.clover.habbittracker.domain.emoji.dto;
+
+import java.util.Map;
+
+import com.clover.habbittracker.domain.emoji.entity.Emoji;
+
+// 이모지 종류별 개수와 조회한 회원이 남긴 이모지. 개수는 캐시되고 회원의 이모지는 요청마다 채운다.
+public record EmojiSummaryResponse(
+	Map<Emoji.Type, Long> counts,
+	Emoji.Type myEmojiType
+) {
+	public static EmojiSummaryResponse of(Map<Emoji.Type, Long> counts) {
+		return new EmojiSummaryResponse(counts, null);
+	}
+
+	public EmojiSummaryResponse withMyEmojiType(Emoji.Type myEmojiType) {
+		return new EmojiSummaryResponse(counts, myEmojiType);
+	}
+}
@@ -9,7 +9,6 @@ import org.springframework.core.convert.converter.Converter;
 import com.clover.habbittracker.global.base.entity.BaseEntity;
 import com.clover.habbittracker.global.base.entity.RestDocsEnum;
 import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonProperty;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -89,7 +88,7 @@ public class Emoji extends BaseEntity {
 		}
 
 		@JsonCreator
-		public static Type fromJson(@JsonProperty("type") String name) {
+		public static Type fromJson(String name) {
 			return valueOf(name.toUpperCase());
 		}
 
@@ -128,7 +127,7 @@ public class Emoji extends BaseEntity {
 		}
 
 		@JsonCreator
-		public static Domain fromJson(@JsonProperty("domain") String name) {
+		public static Domain fromJson(String name) {
 			return valueOf(name.toUpperCase());
 		}
 
@@ -0,0 +1,40 @@
+package com.clover.habbittracker.domain.emoji.entity;
+
+import static lombok.AccessLevel.*;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 도메인별 이모지 종류의 개수. EmojiCountRepository 의 upsert 로만 갱신한다.
+@Getter
+@Entity
+@Table(name = "emoji_count",
+	indexes = {
+		@Index(name = "idx_emoji_count_unique", columnList = "domain,domainId,type", unique = true)
+	}
+)
+@NoArgsConstructor(access = PROTECTED)
+public class EmojiCount {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	private Emoji.Domain domain;
+
+	private Long domainId;
+
+	@Enumerated(EnumType.STRING)
+	private Emoji.Type type;
+
+	private long count;
+}
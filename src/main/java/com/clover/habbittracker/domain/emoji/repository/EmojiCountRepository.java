@@ -0,0 +1,20 @@
+package com.clover.habbittracker.domain.emoji.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.clover.habbittracker.domain.emoji.entity.Emoji;
+import com.clover.habbittracker.domain.emoji.entity.EmojiCount;
+
+public interface EmojiCountRepository extends JpaRepository<EmojiCount, Long> {
+
+	// (domain, domain_id, type) 유니크 키로 한 번에 생성 또는 증감한다.
+	@Modifying
+	@Query(value = "INSERT INTO emoji_count (domain, domain_id, type, count) "
+		+ "VALUES (:#{#domain.name()}, :domainId, :#{#type.name()}, GREATEST(:delta, 0)) "
+		+ "ON DUPLICATE KEY UPDATE count = GREATEST(count + :delta, 0)", nativeQuery = true)
+	int addCount(@Param("domain") Emoji.Domain domain, @Param("domainId") Long domainId,
+		@Param("type") Emoji.Type type, @Param("delta") int delta);
+}
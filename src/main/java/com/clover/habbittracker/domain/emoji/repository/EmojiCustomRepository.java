@@ -1,6 +1,8 @@
 package com.clover.habbittracker.domain.emoji.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.clover.habbittracker.domain.emoji.entity.Emoji;
@@ -9,8 +11,14 @@ public interface EmojiCustomRepository {
 
 	List<Emoji> findAllInDomain(Emoji.Domain domain, Long domainId);
 
+	List<Emoji> findAllInDomain(Emoji.Domain domain, Collection<Long> domainIds);
+
 	Optional<Emoji> findByUniqueKey(Long memberId, Emoji.Domain domain, Long domainId);
 
 	int countByDomain(Emoji.Domain domain, Long domainId);
 
+	Map<Emoji.Type, Long> countByType(Emoji.Domain domain, Long domainId);
+
+	void softDeleteAllInPost(Long postId);
+
 }
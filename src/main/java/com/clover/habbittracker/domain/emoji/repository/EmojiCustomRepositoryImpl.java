@@ -1,13 +1,21 @@
 package com.clover.habbittracker.domain.emoji.repository;
 
+import static com.clover.habbittracker.domain.comment.entity.QComment.*;
 import static com.clover.habbittracker.domain.emoji.entity.QEmoji.*;
+import static com.clover.habbittracker.domain.emoji.entity.QEmojiCount.*;
+import static java.util.stream.Collectors.*;
 
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.stereotype.Repository;
 
 import com.clover.habbittracker.domain.emoji.entity.Emoji;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -27,6 +35,17 @@ public class EmojiCustomRepositoryImpl implements EmojiCustomRepository {
 			.fetch();
 	}
 
+	// idx_emoji_domain 을 타도록 도메인과 도메인 아이디 목록으로 한 번에 조회한다.
+	@Override
+	public List<Emoji> findAllInDomain(Emoji.Domain domain, Collection<Long> domainIds) {
+		return jpaQueryFactory
+			.selectFrom(emoji)
+			.where(emoji.domain.eq(domain)
+				.and(emoji.domainId.in(domainIds)))
+			.orderBy(emoji.domainId.asc(), emoji.id.asc())
+			.fetch();
+	}
+
 	@Override
 	public Optional<Emoji> findByUniqueKey(Long memberId, Emoji.Domain domain, Long domainId) {
 
@@ -41,12 +60,59 @@ public class EmojiCustomRepositoryImpl implements EmojiCustomRepository {
 		return Optional.ofNullable(result);
 	}
 
+	// 이모지 개수는 emoji_count 집계 테이블에서 읽는다.
 	@Override
 	public int countByDomain(Emoji.Domain domain, Long domainId) {
+		Long count = jpaQueryFactory
+			.select(emojiCount.count.sum())
+			.from(emojiCount)
+			.where(emojiCount.domain.eq(domain)
+				.and(emojiCount.domainId.eq(domainId)))
+			.fetchOne();
+		return count == null ? 0 : count.intValue();
+	}
+
+	@Override
+	public Map<Emoji.Type, Long> countByType(Emoji.Domain domain, Long domainId) {
 		return jpaQueryFactory
-			.selectFrom(emoji)
-			.where(emoji.domain.eq(domain)
-				.and(emoji.domainId.eq(domainId)))
-			.fetch().size();
+			.select(emojiCount.type, emojiCount.count)
+			.from(emojiCount)
+			.where(emojiCount.domain.eq(domain)
+				.and(emojiCount.domainId.eq(domainId))
+				.and(emojiCount.count.gt(0)))
+			.fetch()
+			.stream()
+			.collect(toMap(
+				tuple -> tuple.get(emojiCount.type),
+				tuple -> tuple.get(emojiCount.count),
+				Long::sum,
+				() -> new EnumMap<>(Emoji.Type.class)
+			));
+	}
+
+	// 게시글과 게시글의 댓글에 남긴 이모지를 게시글 단위로 한 번에 정리한다.
+	// 삭제되지 않은 댓글을 기준으로 찾으므로 댓글을 삭제 처리하기 전에 호출해야 한다.
+	@Override
+	public void softDeleteAllInPost(Long postId) {
+		JPQLQuery<Long> commentIds = JPAExpressions
+			.select(comment.id)
+			.from(comment)
+			.where(comment.post.id.eq(postId));
+
+		jpaQueryFactory.update(emoji)
+			.set(emoji.deleted, true)
+			.where(emoji.domain.eq(Emoji.Domain.POST).and(emoji.domainId.eq(postId)))
+			.execute();
+		jpaQueryFactory.update(emoji)
+			.set(emoji.deleted, true)
+			.where(emoji.domain.eq(Emoji.Domain.COMMENT).and(emoji.domainId.in(commentIds)))
+			.execute();
+
+		jpaQueryFactory.delete(emojiCount)
+			.where(emojiCount.domain.eq(Emoji.Domain.POST).and(emojiCount.domainId.eq(postId)))
+			.execute();
+		jpaQueryFactory.delete(emojiCount)
+			.where(emojiCount.domain.eq(Emoji.Domain.COMMENT).and(emojiCount.domainId.in(commentIds)))
+			.execute();
 	}
 }
@@ -1,10 +1,40 @@
 package com.clover.habbittracker.domain.emoji.repository;
 
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.clover.habbittracker.domain.emoji.entity.Emoji;
 
 public interface EmojiRepository extends JpaRepository<Emoji, Long>, EmojiCustomRepository {
 
+	// 유니크 키의 행을 잠근다. 행이 없으면 삭제 상태로 만들어 동시 요청이 같은 행을 기다리도록 한다.
+	@Modifying
+	@Query(value = "INSERT INTO emoji (domain, domain_id, member_id, type, deleted) "
+		+ "VALUES (:#{#domain.name()}, :domainId, :memberId, :#{#type.name()}, true) "
+		+ "ON DUPLICATE KEY UPDATE deleted = deleted", nativeQuery = true)
+	int lockByUniqueKey(@Param("memberId") Long memberId, @Param("domain") Emoji.Domain domain,
+		@Param("domainId") Long domainId, @Param("type") Emoji.Type type);
+
+	@Query(value = "SELECT type FROM emoji "
+		+ "WHERE domain = :#{#domain.name()} AND domain_id = :domainId AND member_id = :memberId "
+		+ "AND deleted = false FOR UPDATE", nativeQuery = true)
+	Optional<String> findTypeForUpdate(@Param("memberId") Long memberId, @Param("domain") Emoji.Domain domain,
+		@Param("domainId") Long domainId);
+
+	@Modifying
+	@Query(value = "UPDATE emoji SET type = :#{#type.name()}, deleted = false, updated_date = CURRENT_TIMESTAMP(6) "
+		+ "WHERE domain = :#{#domain.name()} AND domain_id = :domainId AND member_id = :memberId", nativeQuery = true)
+	int updateType(@Param("memberId") Long memberId, @Param("domain") Emoji.Domain domain,
+		@Param("domainId") Long domainId, @Param("type") Emoji.Type type);
+
+	@Modifying
+	@Query(value = "UPDATE emoji SET deleted = true, updated_date = CURRENT_TIMESTAMP(6) "
+		+ "WHERE domain = :#{#domain.name()} AND domain_id = :domainId AND member_id = :memberId", nativeQuery = true)
+	int deleteByUniqueKey(@Param("memberId") Long memberId, @Param("domain") Emoji.Domain domain,
+		@Param("domainId") Long domainId);
 }
 
@@ -1,14 +1,23 @@
 package com.clover.habbittracker.domain.emoji.service;
 
+import static java.util.stream.Collectors.*;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.clover.habbittracker.domain.emoji.dto.EmojiResponse;
 import com.clover.habbittracker.domain.emoji.entity.Emoji;
 import com.clover.habbittracker.domain.emoji.mapper.EmojiMapper;
+import com.clover.habbittracker.domain.emoji.repository.EmojiCountRepository;
 import com.clover.habbittracker.domain.emoji.repository.EmojiRepository;
+import com.clover.habbittracker.domain.post.event.PostChangedEvent;
+import com.clover.habbittracker.domain.post.repository.PostRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,7 +29,10 @@ import lombok.extern.slf4j.Slf4j;
 public class EmojiService {
 
 	private final EmojiRepository emojiRepository;
+	private final EmojiCountRepository emojiCountRepository;
 	private final EmojiMapper emojiMapper;
+	private final PostRepository postRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public List<EmojiResponse> getAllEmojisInDomain(Emoji.Domain domain, Long domainId) {
 		return emojiRepository.findAllInDomain(domain, domainId)
@@ -29,33 +41,70 @@ public class EmojiService {
 			.toList();
 	}
 
+	// 여러 도메인의 이모지를 한 번에 조회해 도메인 아이디별로 묶는다.
+	public Map<Long, List<EmojiResponse>> getAllEmojisInDomains(Emoji.Domain domain, Collection<Long> domainIds) {
+		if (domainIds.isEmpty()) {
+			return Map.of();
+		}
+		return emojiRepository.findAllInDomain(domain, domainIds)
+			.stream()
+			.collect(groupingBy(Emoji::getDomainId, mapping(emojiMapper::toEmojiResponse, toList())));
+	}
+
+	// 이모지 행을 먼저 잠근 뒤 이전 상태를 읽어, 동시에 요청이 들어와도 개수가 어긋나지 않도록 한다.
 	@Transactional
 	public EmojiResponse save(Emoji.Type emojiType, Long memberId, Emoji.Domain domain, Long domainId) {
+		emojiRepository.lockByUniqueKey(memberId, domain, domainId, emojiType);
+		Optional<Emoji.Type> oldType = emojiRepository.findTypeForUpdate(memberId, domain, domainId)
+			.map(Emoji.Type::valueOf);
+		emojiRepository.updateType(memberId, domain, domainId, emojiType);
 
-		// 존재하면 상태 변경, 존재하지 않는 경우 생성 -> Insert or Update
-		// 그냥 save하고 다른 점이 있는지 확인 필요
-		Emoji savedEmoji = emojiRepository.findByUniqueKey(memberId, domain, domainId)
-			.map(e -> e.updateStatus(emojiType))
-			.orElseGet(
-				() -> emojiRepository.save(
-					Emoji.builder()
-						.type(emojiType)
-						.domain(domain)
-						.domainId(domainId)
-						.memberId(memberId)
-						.build()
-				)
-			);
+		if (oldType.isEmpty()) {
+			updatePostEmojiCount(domain, domainId, 1);
+		}
+		boolean changed = oldType.map(type -> !type.isSame(emojiType)).orElse(true);
+		if (changed) {
+			oldType.ifPresent(type -> addEmojiCount(domain, domainId, type, -1));
+			addEmojiCount(domain, domainId, emojiType, 1);
+			publishPostChanged(domain, domainId);
+		}
 
-		return emojiMapper.toEmojiResponse(savedEmoji);
+		return new EmojiResponse(emojiType.name(), memberId, domain.name(), domainId);
 	}
 
 	@Transactional
 	public void delete(Long memberId, Emoji.Domain domain, Long domainId) {
 		// 존재하는 경우에만 동작 없으면 로깅
-		emojiRepository.findByUniqueKey(memberId, domain, domainId)
-			.ifPresentOrElse(emojiRepository::delete,
+		emojiRepository.findTypeForUpdate(memberId, domain, domainId)
+			.map(Emoji.Type::valueOf)
+			.ifPresentOrElse(type -> {
+					emojiRepository.deleteByUniqueKey(memberId, domain, domainId);
+					addEmojiCount(domain, domainId, type, -1);
+					updatePostEmojiCount(domain, domainId, -1);
+					publishPostChanged(domain, domainId);
+				},
 				() -> log.warn("해당 이모지가 존재하지 않습니다.{},{},{}", memberId, domain, domainId)
 			);
 	}
+
+	// 이모지 삭제 상태(NONE)는 집계하지 않는다.
+	private void addEmojiCount(Emoji.Domain domain, Long domainId, Emoji.Type type, int delta) {
+		if (!Emoji.Type.NONE.isSame(type)) {
+			emojiCountRepository.addCount(domain, domainId, type, delta);
+		}
+	}
+
+	// 게시글 상세 조회 캐시를 비운다.
+	private void publishPostChanged(Emoji.Domain domain, Long domainId) {
+		if (Emoji.Domain.POST.isSame(domain)) {
+			eventPublisher.publishEvent(new PostChangedEvent(domainId));
+		}
+	}
+
+	// 게시글 목록에서 사용하는 이모지 수만 관리한다.
+	private void updatePostEmojiCount(Emoji.Domain domain, Long domainId, int delta) {
+		if (Emoji.Domain.POST.isSame(domain)) {
+			postRepository.updateEmojiCount(domainId, delta);
+		}
+	}
 }
@@ -19,8 +19,11 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.clover.habbittracker.domain.habit.dto.HabitRequest;
 import com.clover.habbittracker.domain.habit.dto.HabitResponse;
+import com.clover.habbittracker.domain.habit.dto.HabitStatisticsResponse;
 import com.clover.habbittracker.domain.habit.dto.MyHabitResponse;
 import com.clover.habbittracker.domain.habit.service.HabitService;
+import com.clover.habbittracker.domain.habitcheck.dto.HabitCheckBatchRequest;
+import com.clover.habbittracker.domain.habitcheck.dto.HabitCheckBatchResponse;
 import com.clover.habbittracker.domain.habitcheck.dto.HabitCheckRequest;
 import com.clover.habbittracker.global.base.dto.BaseResponse;
 
@@ -43,6 +46,14 @@ public class HabitController {
 		return ResponseEntity.ok().body(response);
 	}
 
+	@GetMapping("/statistics")
+	public ResponseEntity<BaseResponse<List<HabitStatisticsResponse>>> getMyHabitStatistics(
+		@AuthenticationPrincipal Long memberId) {
+		List<HabitStatisticsResponse> statistics = habitService.getMyStatistics(memberId);
+		BaseResponse<List<HabitStatisticsResponse>> response = BaseResponse.of(statistics, HABIT_READ);
+		return ResponseEntity.ok().body(response);
+	}
+
 	@PostMapping
 	public ResponseEntity<BaseResponse<Long>> createHabit(
 		@AuthenticationPrincipal Long memberId,
@@ -76,6 +87,15 @@ public class HabitController {
 		return ResponseEntity.status(HttpStatus.CREATED).body(response);
 	}
 
+	@PostMapping("/checks")
+	public ResponseEntity<BaseResponse<HabitCheckBatchResponse>> HabitCheckAll(
+		@AuthenticationPrincipal Long memberId,
+		@Valid @RequestBody HabitCheckBatchRequest request) {
+		HabitCheckBatchResponse habitCheckBatchResponse = habitService.habitCheckAll(memberId, request);
+		BaseResponse<HabitCheckBatchResponse> response = BaseResponse.of(habitCheckBatchResponse, HABIT_CHECK_UPDATE);
+		return ResponseEntity.ok().body(response);
+	}
+
 	@DeleteMapping("/{habitCheckId}/uncheck")
 	public ResponseEntity<BaseResponse<Void>> HabitUnCheck(@PathVariable Long habitCheckId) {
 		habitService.habitUnCheck(habitCheckId);
@@ -0,0 +1,40 @@
+package com.clover.habbittracker.domain.habit.dto;
+
+import java.time.LocalDate;
+
+import com.clover.habbittracker.domain.habit.entity.Habit;
+import com.clover.habbittracker.domain.habit.entity.HabitStatistics;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+public class HabitStatisticsResponse {
+	private Long habitId;
+	private int currentStreak;
+	private int longestStreak;
+	private int monthlyCheckCount;
+	private int monthlyCompletionRate; // 이번 달 경과 일수 대비 체크 비율 (%)
+
+	public static HabitStatisticsResponse of(Habit habit, LocalDate today) {
+		HabitStatistics statistics = habit.getStatistics();
+		int monthlyCheckCount = statistics.getMonthlyCheckCount(today);
+		return HabitStatisticsResponse.builder()
+			.habitId(habit.getId())
+			.currentStreak(statistics.getCurrentStreak(today))
+			.longestStreak(statistics.getLongestStreak())
+			.monthlyCheckCount(monthlyCheckCount)
+			.monthlyCompletionRate(monthlyCheckCount * 100 / getElapsedDays(habit, today))
+			.build();
+	}
+
+	// 이번 달에 등록된 습관은 등록일부터 경과 일수를 센다.
+	private static int getElapsedDays(Habit habit, LocalDate today) {
+		LocalDate from = today.withDayOfMonth(1);
+		if (habit.getCreateDate() != null && habit.getCreateDate().toLocalDate().isAfter(from)) {
+			from = habit.getCreateDate().toLocalDate();
+		}
+		return Math.max(today.getDayOfMonth() - from.getDayOfMonth() + 1, 1);
+	}
+}
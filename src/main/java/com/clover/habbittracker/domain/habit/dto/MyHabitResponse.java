@@ -2,9 +2,7 @@ package com.clover.habbittracker.domain.habit.dto;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 
-import com.clover.habbittracker.domain.habit.entity.Habit;
 import com.clover.habbittracker.domain.habitcheck.dto.HabitCheckResponse;
 import com.fasterxml.jackson.annotation.JsonFormat;
 
@@ -19,16 +17,4 @@ public class MyHabitResponse {
 	private List<HabitCheckResponse> habitChecks;
 	@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd", timezone = "Asia/Seoul")
 	private LocalDateTime createDate;
-
-	public static MyHabitResponse from(Habit habit, Map<String, LocalDateTime> dateMap) {
-		return MyHabitResponse.builder()
-			.id(habit.getId())
-			.content(habit.getContent())
-			.createDate(habit.getCreateDate())
-			.habitChecks(HabitCheckResponse.from(habit.getHabitChecks().stream()
-				.filter(habitCheck -> habitCheck.getCreateDate().isBefore(dateMap.get("end")))
-				.filter(habitCheck -> habitCheck.getCreateDate().isAfter(dateMap.get("start")))
-				.toList()))
-			.build();
-	}
 }
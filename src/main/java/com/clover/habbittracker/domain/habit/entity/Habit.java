@@ -8,6 +8,7 @@ import com.clover.habbittracker.domain.member.entity.Member;
 import com.clover.habbittracker.global.base.entity.BaseEntity;
 
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -45,7 +46,17 @@ public class Habit extends BaseEntity {
 		orphanRemoval = true)
 	private final List<HabitCheck> habitChecks = new ArrayList<>();
 
+	@Embedded
+	private HabitStatistics statistics;
+
 	public void setContent(String content) {
 		this.content = content;
 	}
+
+	public HabitStatistics getStatistics() {
+		if (statistics == null) {
+			statistics = new HabitStatistics();
+		}
+		return statistics;
+	}
 }
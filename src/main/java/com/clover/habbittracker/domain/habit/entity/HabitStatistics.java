@@ -0,0 +1,102 @@
+package com.clover.habbittracker.domain.habit.entity;
+
+import static lombok.AccessLevel.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import jakarta.persistence.Embeddable;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 습관 체크/취소 시점에 증분으로 갱신되는 습관 통계. 전체 체크 이력을 다시 읽지 않는다.
+@Getter
+@Embeddable
+@NoArgsConstructor(access = PROTECTED)
+public class HabitStatistics {
+
+	private int currentStreak;
+
+	private int previousLongestStreak; // 현재 연속 기록을 제외한 최장 연속 기록
+
+	private LocalDate lastCheckDate;
+
+	private int monthlyCheckCount;
+
+	private LocalDate checkMonth; // monthlyCheckCount 가 집계된 달의 1일
+
+	public void check(LocalDate date) {
+		if (date.equals(lastCheckDate)) {
+			return;
+		}
+		if (lastCheckDate != null && lastCheckDate.plusDays(1).equals(date)) {
+			currentStreak++;
+		} else {
+			previousLongestStreak = getLongestStreak();
+			currentStreak = 1;
+		}
+		lastCheckDate = date;
+
+		if (!isCheckMonth(date)) {
+			checkMonth = date.withDayOfMonth(1);
+			monthlyCheckCount = 0;
+		}
+		monthlyCheckCount++;
+	}
+
+	// 가장 최근 체크의 취소만 증분으로 되돌릴 수 있다. 그 외의 경우 false 를 반환한다.
+	public boolean unCheck(LocalDate date) {
+		if (!date.equals(lastCheckDate)) {
+			return false;
+		}
+		currentStreak--;
+		lastCheckDate = currentStreak > 0 ? date.minusDays(1) : null;
+
+		if (isCheckMonth(date) && monthlyCheckCount > 0) {
+			monthlyCheckCount--;
+		}
+		return true;
+	}
+
+	// 과거 체크가 취소된 경우에만 사용한다. checkDates 는 중복 없이 오름차순이어야 한다.
+	public void recalculate(List<LocalDate> checkDates, LocalDate today) {
+		currentStreak = 0;
+		previousLongestStreak = 0;
+		lastCheckDate = null;
+		checkMonth = today.withDayOfMonth(1);
+		monthlyCheckCount = 0;
+
+		for (LocalDate checkDate : checkDates) {
+			if (lastCheckDate != null && lastCheckDate.plusDays(1).equals(checkDate)) {
+				currentStreak++;
+			} else {
+				previousLongestStreak = getLongestStreak();
+				currentStreak = 1;
+			}
+			lastCheckDate = checkDate;
+			if (isCheckMonth(checkDate)) {
+				monthlyCheckCount++;
+			}
+		}
+	}
+
+	public int getLongestStreak() {
+		return Math.max(previousLongestStreak, currentStreak);
+	}
+
+	// 어제 또는 오늘 체크하지 않았다면 연속 기록은 끊긴 것으로 본다.
+	public int getCurrentStreak(LocalDate today) {
+		if (lastCheckDate == null || lastCheckDate.isBefore(today.minusDays(1))) {
+			return 0;
+		}
+		return currentStreak;
+	}
+
+	public int getMonthlyCheckCount(LocalDate today) {
+		return isCheckMonth(today) ? monthlyCheckCount : 0;
+	}
+
+	private boolean isCheckMonth(LocalDate date) {
+		return checkMonth != null && checkMonth.equals(date.withDayOfMonth(1));
+	}
+}
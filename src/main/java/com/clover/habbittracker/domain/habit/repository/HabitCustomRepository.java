@@ -0,0 +1,11 @@
+package com.clover.habbittracker.domain.habit.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.clover.habbittracker.domain.habit.dto.MyHabitResponse;
+
+public interface HabitCustomRepository {
+
+	List<MyHabitResponse> findMyHabitsWithChecksBetween(Long memberId, LocalDateTime start, LocalDateTime end);
+}
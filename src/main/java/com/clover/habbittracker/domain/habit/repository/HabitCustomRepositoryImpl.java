@@ -0,0 +1,81 @@
+package com.clover.habbittracker.domain.habit.repository;
+
+import static com.clover.habbittracker.domain.habit.entity.QHabit.*;
+import static com.clover.habbittracker.domain.habitcheck.entity.QHabitCheck.*;
+import static java.util.stream.Collectors.*;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Repository;
+
+import com.clover.habbittracker.domain.habit.dto.MyHabitResponse;
+import com.clover.habbittracker.domain.habitcheck.dto.HabitCheckResponse;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class HabitCustomRepositoryImpl implements HabitCustomRepository {
+
+	private static final ConstructorExpression<HabitCheckResponse> HABIT_CHECK_RESPONSE =
+		Projections.constructor(HabitCheckResponse.class, habitCheck.id, habitCheck.updateDate);
+
+	private final JPAQueryFactory jpaQueryFactory;
+
+	@Override
+	public List<MyHabitResponse> findMyHabitsWithChecksBetween(Long memberId, LocalDateTime start,
+		LocalDateTime end) {
+
+		List<Tuple> habits = jpaQueryFactory
+			.select(habit.id, habit.content, habit.createDate)
+			.from(habit)
+			.where(habit.member.id.eq(memberId))
+			.orderBy(habit.id.asc())
+			.fetch();
+
+		if (habits.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<Long> habitIds = habits.stream().map(tuple -> tuple.get(habit.id)).toList();
+		Map<Long, List<HabitCheckResponse>> habitChecks = findHabitChecksBetween(habitIds, start, end);
+
+		return habits.stream()
+			.map(tuple -> MyHabitResponse.builder()
+				.id(tuple.get(habit.id))
+				.content(tuple.get(habit.content))
+				.createDate(tuple.get(habit.createDate))
+				.habitChecks(habitChecks.getOrDefault(tuple.get(habit.id), Collections.emptyList()))
+				.build())
+			.toList();
+	}
+
+	// (habit_id, created_date) 인덱스를 타도록 습관 ID 와 기간으로만 조회한다.
+	private Map<Long, List<HabitCheckResponse>> findHabitChecksBetween(List<Long> habitIds, LocalDateTime start,
+		LocalDateTime end) {
+
+		return jpaQueryFactory
+			.select(habitCheck.habit.id, HABIT_CHECK_RESPONSE)
+			.from(habitCheck)
+			.where(habitCheck.habit.id.in(habitIds), createDateBetween(start, end))
+			.orderBy(habitCheck.createDate.asc())
+			.fetch()
+			.stream()
+			.collect(groupingBy(
+				tuple -> tuple.get(habitCheck.habit.id),
+				mapping(tuple -> tuple.get(HABIT_CHECK_RESPONSE), toList())
+			));
+	}
+
+	private BooleanExpression createDateBetween(LocalDateTime start, LocalDateTime end) {
+		return habitCheck.createDate.goe(start).and(habitCheck.createDate.lt(end));
+	}
+}
@@ -1,5 +1,6 @@
 package com.clover.habbittracker.domain.habit.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,7 +9,7 @@ import org.springframework.data.repository.query.Param;
 
 import com.clover.habbittracker.domain.habit.entity.Habit;
 
-public interface HabitRepository extends JpaRepository<Habit, Long> {
+public interface HabitRepository extends HabitCustomRepository, JpaRepository<Habit, Long> {
 	@Query("""
 		SELECT h
 		FROM Habit h
@@ -16,4 +17,8 @@ public interface HabitRepository extends JpaRepository<Habit, Long> {
 		WHERE h.member.id = :memberId
 		""")
 	List<Habit> joinHabitCheckFindByMemberId(@Param("memberId") Long memberId);
+
+	List<Habit> findByMemberId(Long memberId);
+
+	List<Habit> findAllByIdInAndMemberId(Collection<Long> ids, Long memberId);
 }
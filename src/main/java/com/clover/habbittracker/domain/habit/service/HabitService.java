@@ -4,17 +4,24 @@ import java.util.List;
 
 import com.clover.habbittracker.domain.habit.dto.HabitRequest;
 import com.clover.habbittracker.domain.habit.dto.HabitResponse;
+import com.clover.habbittracker.domain.habit.dto.HabitStatisticsResponse;
 import com.clover.habbittracker.domain.habit.dto.MyHabitResponse;
+import com.clover.habbittracker.domain.habitcheck.dto.HabitCheckBatchRequest;
+import com.clover.habbittracker.domain.habitcheck.dto.HabitCheckBatchResponse;
 
 public interface HabitService {
 	Long register(Long MemberId, HabitRequest request);
 
 	List<MyHabitResponse> getMyList(Long memberId,String date);
 
+	List<HabitStatisticsResponse> getMyStatistics(Long memberId);
+
 	HabitResponse updateMyHabit(Long habitId, HabitRequest request);
 
 	void habitCheck(Long habitId, String date);
 
+	HabitCheckBatchResponse habitCheckAll(Long memberId, HabitCheckBatchRequest request);
+
 	void deleteHabit(Long habitId);
 
 	void habitUnCheck(Long habitCheckId);
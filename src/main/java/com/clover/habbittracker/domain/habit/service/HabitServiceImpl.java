@@ -2,25 +2,36 @@ package com.clover.habbittracker.domain.habit.service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.clover.habbittracker.domain.habit.dto.HabitRequest;
 import com.clover.habbittracker.domain.habit.dto.HabitResponse;
+import com.clover.habbittracker.domain.habit.dto.HabitStatisticsResponse;
 import com.clover.habbittracker.domain.habit.dto.MyHabitResponse;
 import com.clover.habbittracker.domain.habit.entity.Habit;
 import com.clover.habbittracker.domain.habit.exception.HabitNotFoundException;
 import com.clover.habbittracker.domain.habit.repository.HabitRepository;
+import com.clover.habbittracker.domain.habitcheck.dto.HabitCheckBatchRequest;
+import com.clover.habbittracker.domain.habitcheck.dto.HabitCheckBatchResponse;
 import com.clover.habbittracker.domain.habitcheck.entity.HabitCheck;
 import com.clover.habbittracker.domain.habitcheck.exception.HabitCheckDuplicateException;
 import com.clover.habbittracker.domain.habitcheck.exception.HabitCheckExpiredException;
+import com.clover.habbittracker.domain.habitcheck.repository.HabitCheckJdbcRepository;
+import com.clover.habbittracker.domain.habitcheck.repository.HabitCheckRedisRepository;
 import com.clover.habbittracker.domain.habitcheck.repository.HabitCheckRepository;
 import com.clover.habbittracker.domain.member.entity.Member;
-import com.clover.habbittracker.domain.member.exception.MemberNotFoundException;
-import com.clover.habbittracker.domain.member.repository.MemberRepository;
+import com.clover.habbittracker.domain.member.service.MemberService;
 import com.clover.habbittracker.global.util.DateUtil;
 
 import lombok.RequiredArgsConstructor;
@@ -32,12 +43,13 @@ public class HabitServiceImpl implements HabitService {
 	private final HabitRepository habitRepository;
 
 	private final HabitCheckRepository habitCheckRepository;
-	private final MemberRepository memberRepository;
+	private final HabitCheckJdbcRepository habitCheckJdbcRepository;
+	private final HabitCheckRedisRepository habitCheckRedisRepository;
+	private final MemberService memberService;
 
 	@Override
 	public Long register(Long memberId, HabitRequest request) {
-		Member member = memberRepository.findById(memberId)
-			.orElseThrow(() -> new MemberNotFoundException(memberId));
+		Member member = memberService.getMemberReference(memberId);
 		Habit habit = Habit.builder()
 			.content(request.getContent())
 			.member(member).build();
@@ -48,11 +60,15 @@ public class HabitServiceImpl implements HabitService {
 	@Override
 	public List<MyHabitResponse> getMyList(Long memberId, String date) {
 		Map<String, LocalDateTime> dateMap = DateUtil.getMonthStartAndEndDate(date);
-		return habitRepository.joinHabitCheckFindByMemberId(memberId)
-			.stream()
-			.map(habit -> MyHabitResponse.from(habit, dateMap))
-			.toList();
+		return habitRepository.findMyHabitsWithChecksBetween(memberId, dateMap.get("start"), dateMap.get("end"));
+	}
 
+	@Override
+	public List<HabitStatisticsResponse> getMyStatistics(Long memberId) {
+		LocalDate today = LocalDate.now();
+		return habitRepository.findByMemberId(memberId).stream()
+			.map(habit -> HabitStatisticsResponse.of(habit, today))
+			.toList();
 	}
 
 	@Override
@@ -74,25 +90,153 @@ public class HabitServiceImpl implements HabitService {
 			throw new HabitCheckExpiredException(habitId);
 		}
 
-		habitCheckRepository.findByHabitOrderByUpdatedAtDesc(habit)
-			.ifPresent(lastHabitCheck -> {
-				if (isToday(lastHabitCheck.getUpdateDate().toLocalDate())) {
-					System.out.println(lastHabitCheck.getUpdateDate());
-					throw new HabitCheckDuplicateException(habitId);
-				}
-			});
+		// Redis 에 오늘 체크 기록이 없을 때만 DB 로 중복 여부를 확인한다.
+		if (!habitCheckRedisRepository.markChecked(habitId, requestDate)
+			|| habitCheckRepository.existsByHabitAndCreateDateGreaterThanEqual(habit, requestDate.atStartOfDay())) {
+			throw new HabitCheckDuplicateException(habitId);
+		}
+		unmarkOnRollback(habitId, requestDate);
+
 		habitCheckRepository.save(HabitCheck.builder().checked(true).habit(habit).build());
+		habit.getStatistics().check(requestDate);
 		habit.setUpdateDate(LocalDateTime.now());
 	}
 
+	@Override
+	@Transactional
+	public HabitCheckBatchResponse habitCheckAll(Long memberId, HabitCheckBatchRequest request) {
+		// 같은 (습관, 날짜) 에 대한 요청이 여러 번 오면 마지막 요청만 반영한다.
+		Map<Map.Entry<Long, LocalDate>, HabitCheckBatchRequest.Operation> toggles = new LinkedHashMap<>();
+		request.operations().forEach(operation ->
+			toggles.put(Map.entry(operation.habitId(), operation.getDate()), operation));
+
+		Map<Long, Habit> habits = findMyHabits(memberId, toggles.keySet().stream()
+			.map(Map.Entry::getKey)
+			.collect(Collectors.toSet()));
+
+		// 오프라인에서 쌓인 요청 중 날짜가 지난 체크만 건너뛰고 나머지는 반영한다.
+		List<Long> checkHabitIds = new ArrayList<>();
+		List<Map.Entry<Long, LocalDate>> unCheckDates = new ArrayList<>();
+		List<HabitCheckBatchRequest.Operation> expiredOperations = new ArrayList<>();
+		toggles.forEach((habitCheckDate, operation) -> {
+			if (!operation.checked()) {
+				unCheckDates.add(habitCheckDate);
+			} else if (isToday(habitCheckDate.getValue())) {
+				checkHabitIds.add(habitCheckDate.getKey());
+			} else {
+				expiredOperations.add(operation);
+			}
+		});
+
+		unCheckAll(habits, unCheckDates);
+		checkAll(habits, checkHabitIds);
+		return new HabitCheckBatchResponse(expiredOperations);
+	}
+
 	@Override
 	public void deleteHabit(Long habitId) {
 		habitRepository.deleteById(habitId);
 	}
 
 	@Override
+	@Transactional
 	public void habitUnCheck(Long habitCheckId) {
-		habitCheckRepository.deleteById(habitCheckId);
+		habitCheckRepository.findById(habitCheckId)
+			.ifPresent(habitCheck -> {
+				Habit habit = habitCheck.getHabit();
+				LocalDate checkDate = habitCheck.getCreateDate().toLocalDate();
+				habitCheckRepository.delete(habitCheck);
+
+				// 마지막 체크가 아닌 과거 체크를 취소한 경우에만 이력으로 통계를 다시 계산한다.
+				if (!habit.getStatistics().unCheck(checkDate)) {
+					habit.getStatistics().recalculate(getCheckDates(habit), LocalDate.now());
+				}
+				habitCheckRedisRepository.unmarkChecked(habit.getId(), checkDate);
+			});
+	}
+
+	// 본인 소유가 아닌 습관이 하나라도 포함되면 요청 전체를 거절한다.
+	private Map<Long, Habit> findMyHabits(Long memberId, Set<Long> habitIds) {
+		Map<Long, Habit> habits = habitRepository.findAllByIdInAndMemberId(habitIds, memberId).stream()
+			.collect(Collectors.toMap(Habit::getId, Function.identity()));
+		habitIds.stream()
+			.filter(habitId -> !habits.containsKey(habitId))
+			.findFirst()
+			.ifPresent(habitId -> {
+				throw new HabitNotFoundException(habitId);
+			});
+		return habits;
+	}
+
+	// 이미 체크된 습관은 재전송된 요청으로 보고 건너뛴다.
+	private void checkAll(Map<Long, Habit> habits, List<Long> habitIds) {
+		if (habitIds.isEmpty()) {
+			return;
+		}
+		LocalDate today = LocalDate.now();
+		List<Long> markedHabitIds = habitIds.stream()
+			.filter(habitId -> habitCheckRedisRepository.markChecked(habitId, today))
+			.toList();
+		markedHabitIds.forEach(habitId -> unmarkOnRollback(habitId, today));
+		if (markedHabitIds.isEmpty()) {
+			return;
+		}
+
+		Set<Long> checkedHabitIds = Set.copyOf(
+			habitCheckRepository.findHabitIdsCheckedSince(markedHabitIds, today.atStartOfDay()));
+		List<Long> newHabitIds = markedHabitIds.stream()
+			.filter(habitId -> !checkedHabitIds.contains(habitId))
+			.toList();
+		if (newHabitIds.isEmpty()) {
+			return;
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		habitCheckJdbcRepository.saveAll(newHabitIds, now);
+		newHabitIds.forEach(habitId -> {
+			Habit habit = habits.get(habitId);
+			habit.getStatistics().check(today);
+			habit.setUpdateDate(now);
+		});
+	}
+
+	private void unCheckAll(Map<Long, Habit> habits, List<Map.Entry<Long, LocalDate>> habitCheckDates) {
+		if (habitCheckDates.isEmpty()) {
+			return;
+		}
+		int[] deletedCounts = habitCheckJdbcRepository.deleteAll(habitCheckDates);
+		for (int i = 0; i < habitCheckDates.size(); i++) {
+			if (i < deletedCounts.length && deletedCounts[i] == 0) {
+				continue;
+			}
+			Habit habit = habits.get(habitCheckDates.get(i).getKey());
+			LocalDate checkDate = habitCheckDates.get(i).getValue();
+			if (!habit.getStatistics().unCheck(checkDate)) {
+				habit.getStatistics().recalculate(getCheckDates(habit), LocalDate.now());
+			}
+			habitCheckRedisRepository.unmarkChecked(habit.getId(), checkDate);
+		}
+	}
+
+	private List<LocalDate> getCheckDates(Habit habit) {
+		return habitCheckRepository.findCreateDatesByHabit(habit).stream()
+			.map(LocalDateTime::toLocalDate)
+			.distinct()
+			.toList();
+	}
+
+	private void unmarkOnRollback(Long habitId, LocalDate requestDate) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_ROLLED_BACK) {
+					habitCheckRedisRepository.unmarkChecked(habitId, requestDate);
+				}
+			}
+		});
 	}
 
 	private boolean isToday(LocalDate dateTime) {
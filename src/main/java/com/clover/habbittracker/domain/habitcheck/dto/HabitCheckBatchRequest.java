@@ -0,0 +1,29 @@
+package com.clover.habbittracker.domain.habitcheck.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.clover.habbittracker.global.util.DateUtil;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record HabitCheckBatchRequest(
+	@NotEmpty(message = "습관 체크 요청이 비어 있을 수 없습니다.")
+	@Size(max = 100, message = "습관 체크는 한번에 100개까지 요청할 수 있습니다.")
+	List<@Valid Operation> operations
+) {
+
+	// checked 가 true 면 체크, false 면 체크 취소 요청이다.
+	public record Operation(
+		@NotNull Long habitId,
+		@NotNull String requestDate,
+		boolean checked
+	) {
+		public LocalDate getDate() {
+			return DateUtil.getLocalDate(requestDate);
+		}
+	}
+}
@@ -0,0 +1,9 @@
+package com.clover.habbittracker.domain.habitcheck.dto;
+
+import java.util.List;
+
+// 날짜가 지나 반영하지 못한 체크 요청 목록. 나머지 요청은 모두 반영된다.
+public record HabitCheckBatchResponse(
+	List<HabitCheckBatchRequest.Operation> expiredOperations
+) {
+}
@@ -7,6 +7,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -20,7 +21,11 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name = "habit_check")
+@Table(name = "habit_check",
+	indexes = {
+		@Index(name = "idx_habit_check_habit_id_created_date", columnList = "habitId,created_date")
+	}
+)
 public class HabitCheck extends BaseEntity {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,50 @@
+package com.clover.habbittracker.domain.habitcheck.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+// IDENTITY 전략에서는 Hibernate 의 insert 배치가 동작하지 않으므로 JDBC 배치로 일괄 처리한다.
+@Repository
+@RequiredArgsConstructor
+public class HabitCheckJdbcRepository {
+
+	private static final String INSERT_SQL = """
+		INSERT INTO habit_check (habit_id, checked, created_date, updated_date, deleted)
+		VALUES (?, true, ?, ?, false)
+		""";
+
+	private static final String DELETE_SQL = """
+		DELETE FROM habit_check
+		WHERE habit_id = ? AND created_date >= ? AND created_date < ?
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void saveAll(List<Long> habitIds, LocalDateTime checkedAt) {
+		Timestamp timestamp = Timestamp.valueOf(checkedAt);
+		jdbcTemplate.batchUpdate(INSERT_SQL, habitIds, habitIds.size(), (ps, habitId) -> {
+			ps.setLong(1, habitId);
+			ps.setTimestamp(2, timestamp);
+			ps.setTimestamp(3, timestamp);
+		});
+	}
+
+	// (습관 ID, 체크 날짜) 순서대로 삭제된 행 수를 반환한다.
+	public int[] deleteAll(List<Map.Entry<Long, LocalDate>> habitCheckDates) {
+		int[][] counts = jdbcTemplate.batchUpdate(DELETE_SQL, habitCheckDates, habitCheckDates.size(),
+			(ps, habitCheckDate) -> {
+				ps.setLong(1, habitCheckDate.getKey());
+				ps.setTimestamp(2, Timestamp.valueOf(habitCheckDate.getValue().atStartOfDay()));
+				ps.setTimestamp(3, Timestamp.valueOf(habitCheckDate.getValue().plusDays(1).atStartOfDay()));
+			});
+		return counts.length == 0 ? new int[0] : counts[0];
+	}
+}
@@ -0,0 +1,61 @@
+package com.clover.habbittracker.domain.habitcheck.repository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 오늘 체크된 습관을 (habitId, 날짜) 키로 기록한다. 키는 해당 날짜의 자정에 만료된다.
+@Slf4j
+@Repository
+public class HabitCheckRedisRepository {
+
+	private static final String KEY_PREFIX = "habit:check:";
+	private static final Duration MIN_TTL = Duration.ofSeconds(1);
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final ZoneId zoneId;
+
+	public HabitCheckRedisRepository(RedisTemplate<String, Object> redisTemplate,
+		@Value("${habit.check-cache.zone:Asia/Seoul}") String zone) {
+		this.redisTemplate = redisTemplate;
+		this.zoneId = ZoneId.of(zone);
+	}
+
+	// SETNX 로 체크 기록을 선점한다. 이미 체크된 습관이면 false 를 반환한다.
+	public boolean markChecked(Long habitId, LocalDate date) {
+		try {
+			Boolean marked = redisTemplate.opsForValue()
+				.setIfAbsent(getKey(habitId, date), true, ttlUntilMidnight(date));
+			return !Boolean.FALSE.equals(marked);
+		} catch (DataAccessException e) {
+			log.warn("습관 체크 캐시를 사용할 수 없어 DB 로 중복 여부를 확인합니다. habitId = {}", habitId, e);
+			return true;
+		}
+	}
+
+	public void unmarkChecked(Long habitId, LocalDate date) {
+		try {
+			redisTemplate.delete(getKey(habitId, date));
+		} catch (DataAccessException e) {
+			log.warn("습관 체크 캐시 삭제에 실패하였습니다. habitId = {}, date = {}", habitId, date, e);
+		}
+	}
+
+	private String getKey(Long habitId, LocalDate date) {
+		return KEY_PREFIX + habitId + ":" + date;
+	}
+
+	private Duration ttlUntilMidnight(LocalDate date) {
+		ZonedDateTime midnight = date.plusDays(1).atStartOfDay(zoneId);
+		Duration ttl = Duration.between(ZonedDateTime.now(zoneId), midnight);
+		return ttl.compareTo(MIN_TTL) < 0 ? MIN_TTL : ttl;
+	}
+}
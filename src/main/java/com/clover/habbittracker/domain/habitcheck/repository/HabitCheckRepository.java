@@ -1,5 +1,8 @@
 package com.clover.habbittracker.domain.habitcheck.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -24,4 +27,23 @@ public interface HabitCheckRepository extends JpaRepository<HabitCheck, Long> {
 	Optional<HabitCheck> findByHabitOrderByUpdatedAtDesc(@Param("habit") Habit habit);
 
 	Optional<HabitCheck> findByHabit(Habit habit);
+
+	boolean existsByHabitAndCreateDateGreaterThanEqual(Habit habit, LocalDateTime start);
+
+	@Query("""
+		SELECT hc.createDate
+		FROM HabitCheck hc
+		WHERE hc.habit = :habit
+		ORDER BY hc.createDate ASC
+		""")
+	List<LocalDateTime> findCreateDatesByHabit(@Param("habit") Habit habit);
+
+	@Query("""
+		SELECT hc.habit.id
+		FROM HabitCheck hc
+		WHERE hc.habit.id IN :habitIds
+		AND hc.createDate >= :start
+		""")
+	List<Long> findHabitIdsCheckedSince(@Param("habitIds") Collection<Long> habitIds,
+		@Param("start") LocalDateTime start);
 }
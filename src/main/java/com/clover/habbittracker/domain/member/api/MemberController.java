@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.clover.habbittracker.domain.member.dto.MemberRequest;
@@ -42,6 +43,13 @@ public class MemberController {
 		return ResponseEntity.ok().body(response);
 	}
 
+	@GetMapping("/nickname/available")
+	ResponseEntity<BaseResponse<Boolean>> checkNickNameAvailable(@RequestParam String nickName) {
+		boolean available = memberService.isNickNameAvailable(nickName);
+		BaseResponse<Boolean> response = BaseResponse.of(available, MEMBER_NICKNAME_READ);
+		return ResponseEntity.ok().body(response);
+	}
+
 	@DeleteMapping("/me")
 	ResponseEntity<BaseResponse<Void>> deleteMember(@AuthenticationPrincipal Long memberId) {
 		memberService.deleteProfile(memberId);
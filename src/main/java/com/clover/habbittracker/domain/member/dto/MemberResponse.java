@@ -4,9 +4,11 @@ import com.clover.habbittracker.domain.member.entity.Member;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Builder
 @Getter
+@Jacksonized
 public class MemberResponse {
 	Long id;
 	String email;
@@ -14,6 +14,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -26,8 +27,16 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name = "member")
+@Table(name = "member",
+	indexes = {
+		@Index(name = Member.NICK_NAME_INDEX, columnList = "nickName", unique = true),
+		@Index(name = "idx_member_provider_oauth_id", columnList = "provider,oauthId", unique = true)
+	}
+)
 public class Member extends BaseEntity {
+
+	public static final String NICK_NAME_INDEX = "idx_member_nick_name";
+
 	@Id
 	@GeneratedValue(strategy = IDENTITY)
 	private Long id;
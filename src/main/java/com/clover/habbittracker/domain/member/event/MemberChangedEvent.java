@@ -0,0 +1,7 @@
+package com.clover.habbittracker.domain.member.event;
+
+// 회원 캐시에 영향을 주는 변경(프로필 수정, 탈퇴)이 발생했음을 알린다.
+public record MemberChangedEvent(
+	Long memberId
+) {
+}
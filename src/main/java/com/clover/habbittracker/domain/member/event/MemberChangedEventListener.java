@@ -0,0 +1,30 @@
+package com.clover.habbittracker.domain.member.event;
+
+import static org.springframework.transaction.event.TransactionPhase.*;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.clover.habbittracker.domain.member.repository.MemberCacheRepository;
+import com.clover.habbittracker.domain.member.repository.OauthMemberCacheRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class MemberChangedEventListener {
+
+	private final MemberCacheRepository memberCacheRepository;
+
+	private final OauthMemberCacheRepository oauthMemberCacheRepository;
+
+	@TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+	public void evictMember(MemberChangedEvent event) {
+		memberCacheRepository.evict(event.memberId());
+	}
+
+	@TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+	public void evictOauthMember(MemberDeletedEvent event) {
+		oauthMemberCacheRepository.evict(event.provider(), event.oauthId());
+	}
+}
@@ -0,0 +1,8 @@
+package com.clover.habbittracker.domain.member.event;
+
+// 회원 탈퇴 시 소셜 로그인 캐시를 지우기 위해 탈퇴한 회원의 소셜 계정 정보를 알린다.
+public record MemberDeletedEvent(
+	String provider,
+	String oauthId
+) {
+}
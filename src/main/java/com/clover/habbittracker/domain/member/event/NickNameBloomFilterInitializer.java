@@ -0,0 +1,43 @@
+package com.clover.habbittracker.domain.member.event;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.clover.habbittracker.domain.member.repository.MemberRepository;
+import com.clover.habbittracker.domain.member.repository.NickNameBloomFilterRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 서버가 뜰 때 기존 회원의 닉네임을 Bloom filter 에 한 번만 적재한다. 이후 닉네임은 가입/수정 시점에 추가된다.
+@Slf4j
+@Component
+public class NickNameBloomFilterInitializer {
+
+	private final MemberRepository memberRepository;
+	private final NickNameBloomFilterRepository nickNameBloomFilterRepository;
+	private final int batchSize;
+
+	public NickNameBloomFilterInitializer(MemberRepository memberRepository,
+		NickNameBloomFilterRepository nickNameBloomFilterRepository,
+		@Value("${member.nickname-bloom.load-batch-size:1000}") int batchSize) {
+		this.memberRepository = memberRepository;
+		this.nickNameBloomFilterRepository = nickNameBloomFilterRepository;
+		this.batchSize = batchSize;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		if (nickNameBloomFilterRepository.isReady() || !nickNameBloomFilterRepository.tryStartLoading()) {
+			return;
+		}
+		try {
+			memberRepository.forEachNickNames(batchSize, nickNameBloomFilterRepository::putAll);
+			nickNameBloomFilterRepository.completeLoading();
+		} catch (RuntimeException e) {
+			log.warn("닉네임 Bloom filter 적재에 실패하여 DB 로 닉네임을 확인합니다.", e);
+			nickNameBloomFilterRepository.cancelLoading();
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package com.clover.habbittracker.domain.member.repository;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.clover.habbittracker.domain.member.dto.MemberResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 회원 정보를 로컬 캐시 -> Redis -> DB 순서로 조회한다.
+// Redis 유지 시간은 Access 토큰 유효 시간을 넘지 않도록 jwt.expiredMs 를 따른다.
+@Slf4j
+@Repository
+public class MemberCacheRepository {
+
+	private static final String KEY_PREFIX = "member:";
+
+	private final Cache<Long, MemberResponse> localCache;
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final Duration redisTtl;
+
+	public MemberCacheRepository(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+		@Value("${member.cache.local-ttl:PT10S}") Duration localTtl,
+		@Value("${member.cache.local-max-size:10000}") long localMaxSize,
+		@Value("${jwt.expiredMs:604800000}") long redisTtlMs) {
+		this.localCache = Caffeine.newBuilder()
+			.expireAfterWrite(localTtl)
+			.maximumSize(localMaxSize)
+			.build();
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.redisTtl = Duration.ofMillis(redisTtlMs);
+	}
+
+	// loader 에서 발생한 예외는 캐싱되지 않고 그대로 전달된다.
+	public MemberResponse get(Long memberId, Supplier<MemberResponse> loader) {
+		return localCache.get(memberId, id -> getFromRedis(id).orElseGet(() -> {
+			MemberResponse member = loader.get();
+			putToRedis(id, member);
+			return member;
+		}));
+	}
+
+	public void evict(Long memberId) {
+		localCache.invalidate(memberId);
+		try {
+			redisTemplate.delete(KEY_PREFIX + memberId);
+		} catch (DataAccessException e) {
+			log.warn("회원 캐시 삭제에 실패하였습니다. memberId = {}", memberId, e);
+		}
+	}
+
+	private Optional<MemberResponse> getFromRedis(Long memberId) {
+		try {
+			String cached = redisTemplate.opsForValue().get(KEY_PREFIX + memberId);
+			if (cached == null) {
+				return Optional.empty();
+			}
+			return Optional.of(objectMapper.readValue(cached, MemberResponse.class));
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("회원 캐시를 조회할 수 없어 DB 에서 조회합니다. memberId = {}", memberId, e);
+			return Optional.empty();
+		}
+	}
+
+	private void putToRedis(Long memberId, MemberResponse member) {
+		try {
+			redisTemplate.opsForValue().set(KEY_PREFIX + memberId, objectMapper.writeValueAsString(member), redisTtl);
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("회원 캐시 저장에 실패하였습니다. memberId = {}", memberId, e);
+		}
+	}
+}
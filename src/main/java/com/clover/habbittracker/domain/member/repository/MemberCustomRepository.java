@@ -1,6 +1,8 @@
 package com.clover.habbittracker.domain.member.repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.clover.habbittracker.domain.member.entity.Member;
 
@@ -9,4 +11,8 @@ public interface MemberCustomRepository {
 	Optional<Member> findByProviderAndOauthId(String provider, String oauthId);
 
 	Optional<Member> findByNickName(String nickName);
+
+	boolean existsByNickName(String nickName);
+
+	void forEachNickNames(int batchSize, Consumer<List<String>> consumer);
 }
@@ -2,11 +2,14 @@ package com.clover.habbittracker.domain.member.repository;
 
 import static com.clover.habbittracker.domain.member.entity.QMember.*;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.springframework.stereotype.Repository;
 
 import com.clover.habbittracker.domain.member.entity.Member;
+import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -38,5 +41,34 @@ public class MemberCustomRepositoryImpl implements MemberCustomRepository {
 		return Optional.ofNullable(result);
 	}
 
+	@Override
+	public boolean existsByNickName(String nickName) {
+		Integer result = jpaQueryFactory.selectOne()
+			.from(member)
+			.where(member.nickName.eq(nickName))
+			.fetchFirst();
+
+		return result != null;
+	}
 
+	// 회원 ID 기준 no-offset 방식으로 닉네임을 batchSize 만큼씩 나누어 전달한다.
+	@Override
+	public void forEachNickNames(int batchSize, Consumer<List<String>> consumer) {
+		Long lastId = 0L;
+		List<Tuple> result;
+		do {
+			result = jpaQueryFactory
+				.select(member.id, member.nickName)
+				.from(member)
+				.where(member.id.gt(lastId), member.nickName.isNotNull())
+				.orderBy(member.id.asc())
+				.limit(batchSize)
+				.fetch();
+			if (result.isEmpty()) {
+				return;
+			}
+			consumer.accept(result.stream().map(tuple -> tuple.get(member.nickName)).toList());
+			lastId = result.get(result.size() - 1).get(member.id);
+		} while (result.size() == batchSize);
+	}
 }
@@ -0,0 +1,145 @@
+package com.clover.habbittracker.domain.member.repository;
+
+import static java.nio.charset.StandardCharsets.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 사용 중인 닉네임을 Redis 비트맵 기반 Bloom filter 로 관리한다.
+// false 이면 사용 중이 아닌 닉네임이 확실하고, true 이면 DB 로 한 번 더 확인해야 한다.
+@Slf4j
+@Repository
+public class NickNameBloomFilterRepository {
+
+	private static final String KEY = "member:nickname:bloom";
+	private static final String LOADING_KEY = "member:nickname:bloom:loading";
+	private static final String READY_KEY = "member:nickname:bloom:ready";
+	private static final byte[] RAW_KEY = KEY.getBytes(UTF_8);
+	private static final byte[] RAW_READY_KEY = READY_KEY.getBytes(UTF_8);
+
+	private final StringRedisTemplate redisTemplate;
+	private final long bitSize;
+	private final int hashCount;
+	private final Duration loadingLease;
+
+	public NickNameBloomFilterRepository(StringRedisTemplate redisTemplate,
+		@Value("${member.nickname-bloom.bit-size:16777216}") long bitSize,
+		@Value("${member.nickname-bloom.hash-count:5}") int hashCount,
+		@Value("${member.nickname-bloom.loading-lease:PT10M}") Duration loadingLease) {
+		this.redisTemplate = redisTemplate;
+		this.bitSize = bitSize;
+		this.hashCount = hashCount;
+		this.loadingLease = loadingLease;
+	}
+
+	// 초기 적재가 끝나지 않았거나 Redis 를 사용할 수 없으면 DB 로 확인하도록 true 를 반환한다.
+	public boolean mightContain(String nickName) {
+		long[] offsets = getOffsets(nickName);
+		try {
+			List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				connection.keyCommands().exists(RAW_READY_KEY);
+				RedisStringCommands commands = connection.stringCommands();
+				for (long offset : offsets) {
+					commands.getBit(RAW_KEY, offset);
+				}
+				return null;
+			});
+			return !Boolean.TRUE.equals(results.get(0)) || results.stream().allMatch(Boolean.TRUE::equals);
+		} catch (DataAccessException e) {
+			log.warn("닉네임 Bloom filter 를 사용할 수 없어 DB 로 확인합니다. nickName = {}", nickName, e);
+			return true;
+		}
+	}
+
+	// 초기 적재에 사용한다. 일부만 적재된 채로 완료되지 않도록 Redis 예외를 그대로 전달한다.
+	public void putAll(List<String> nickNames) {
+		redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			RedisStringCommands commands = connection.stringCommands();
+			for (String nickName : nickNames) {
+				for (long offset : getOffsets(nickName)) {
+					commands.setBit(RAW_KEY, offset, true);
+				}
+			}
+			return null;
+		});
+	}
+
+	public void put(String nickName) {
+		try {
+			putAll(List.of(nickName));
+		} catch (DataAccessException e) {
+			log.warn("닉네임 Bloom filter 저장에 실패하였습니다. nickName = {}", nickName, e);
+		}
+	}
+
+	public boolean isReady() {
+		try {
+			return Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY));
+		} catch (DataAccessException e) {
+			log.warn("닉네임 Bloom filter 적재 여부를 확인할 수 없습니다.", e);
+			return false;
+		}
+	}
+
+	// 여러 서버가 동시에 뜨더라도 초기 적재는 적재 키를 선점한 서버 한 곳에서만 수행한다.
+	// 적재 중인 서버가 종료되어도 loadingLease 가 지나면 다음에 뜨는 서버가 다시 적재한다.
+	public boolean tryStartLoading() {
+		try {
+			return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOADING_KEY, "1", loadingLease));
+		} catch (DataAccessException e) {
+			log.warn("닉네임 Bloom filter 적재 여부를 확인할 수 없습니다.", e);
+			return false;
+		}
+	}
+
+	public void completeLoading() {
+		redisTemplate.opsForValue().set(READY_KEY, "1");
+	}
+
+	// 적재에 실패하면 다음에 뜨는 서버가 다시 적재할 수 있도록 적재 키를 지운다.
+	public void cancelLoading() {
+		try {
+			redisTemplate.delete(LOADING_KEY);
+		} catch (DataAccessException e) {
+			log.warn("닉네임 Bloom filter 적재 키 삭제에 실패하였습니다.", e);
+		}
+	}
+
+	// 두 개의 해시로 hashCount 개의 위치를 만든다. (Kirsch-Mitzenmacher double hashing)
+	private long[] getOffsets(String nickName) {
+		long hash1 = fnv1a64(nickName.getBytes(UTF_8));
+		long hash2 = mix64(hash1) | 1;
+		long[] offsets = new long[hashCount];
+		for (int i = 0; i < hashCount; i++) {
+			offsets[i] = Math.floorMod(hash1 + i * hash2, bitSize);
+		}
+		return offsets;
+	}
+
+	private static long fnv1a64(byte[] bytes) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : bytes) {
+			hash ^= (b & 0xff);
+			hash *= 0x100000001b3L;
+		}
+		return hash;
+	}
+
+	private static long mix64(long hash) {
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb53fe1a85ec3L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
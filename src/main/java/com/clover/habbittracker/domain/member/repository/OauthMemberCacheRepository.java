@@ -0,0 +1,58 @@
+package com.clover.habbittracker.domain.member.repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 소셜 로그인 시 (provider, oauthId) 로 회원 ID 를 조회하기 위한 캐시. 회원 탈퇴 시 삭제된다.
+@Slf4j
+@Repository
+public class OauthMemberCacheRepository {
+
+	private static final String KEY_PREFIX = "member:oauth:";
+
+	private final StringRedisTemplate redisTemplate;
+	private final Duration ttl;
+
+	public OauthMemberCacheRepository(StringRedisTemplate redisTemplate,
+		@Value("${member.oauth-cache.ttl:P30D}") Duration ttl) {
+		this.redisTemplate = redisTemplate;
+		this.ttl = ttl;
+	}
+
+	public Optional<Long> findMemberId(String provider, String oauthId) {
+		try {
+			return Optional.ofNullable(redisTemplate.opsForValue().get(getKey(provider, oauthId)))
+				.map(Long::valueOf);
+		} catch (DataAccessException e) {
+			log.warn("소셜 로그인 캐시를 조회할 수 없어 DB 에서 조회합니다. provider = {}", provider, e);
+			return Optional.empty();
+		}
+	}
+
+	public void put(String provider, String oauthId, Long memberId) {
+		try {
+			redisTemplate.opsForValue().set(getKey(provider, oauthId), String.valueOf(memberId), ttl);
+		} catch (DataAccessException e) {
+			log.warn("소셜 로그인 캐시 저장에 실패하였습니다. memberId = {}", memberId, e);
+		}
+	}
+
+	public void evict(String provider, String oauthId) {
+		try {
+			redisTemplate.delete(getKey(provider, oauthId));
+		} catch (DataAccessException e) {
+			log.warn("소셜 로그인 캐시 삭제에 실패하였습니다. provider = {}", provider, e);
+		}
+	}
+
+	private String getKey(String provider, String oauthId) {
+		return KEY_PREFIX + provider + ":" + oauthId;
+	}
+}
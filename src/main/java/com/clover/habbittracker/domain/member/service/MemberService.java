@@ -2,10 +2,15 @@ package com.clover.habbittracker.domain.member.service;
 
 import com.clover.habbittracker.domain.member.dto.MemberRequest;
 import com.clover.habbittracker.domain.member.dto.MemberResponse;
+import com.clover.habbittracker.domain.member.entity.Member;
 
 public interface MemberService {
 	MemberResponse getProfile(Long memberId);
 
+	Member getMemberReference(Long memberId);
+
+	boolean isNickNameAvailable(String nickName);
+
 	MemberResponse updateProfile(Long memberId, MemberRequest request);
 
 	void deleteProfile(Long memberId);
@@ -1,16 +1,22 @@
 package com.clover.habbittracker.domain.member.service;
 
-import java.util.Optional;
+import java.util.Objects;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.clover.habbittracker.domain.member.dto.MemberRequest;
 import com.clover.habbittracker.domain.member.dto.MemberResponse;
 import com.clover.habbittracker.domain.member.entity.Member;
+import com.clover.habbittracker.domain.member.event.MemberChangedEvent;
+import com.clover.habbittracker.domain.member.event.MemberDeletedEvent;
 import com.clover.habbittracker.domain.member.exception.MemberDuplicateNickName;
 import com.clover.habbittracker.domain.member.exception.MemberNotFoundException;
+import com.clover.habbittracker.domain.member.repository.MemberCacheRepository;
 import com.clover.habbittracker.domain.member.repository.MemberRepository;
+import com.clover.habbittracker.domain.member.repository.NickNameBloomFilterRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -20,36 +26,73 @@ public class MemberServiceImpl implements MemberService {
 
 	private final MemberRepository memberRepository;
 
+	private final MemberCacheRepository memberCacheRepository;
+
+	private final NickNameBloomFilterRepository nickNameBloomFilterRepository;
+
+	private final ApplicationEventPublisher eventPublisher;
+
 	@Override
 	public MemberResponse getProfile(Long memberId) {
-		return memberRepository.findById(memberId)
+		return memberCacheRepository.get(memberId, () -> memberRepository.findById(memberId)
 			.map(MemberResponse::from)
-			.orElseThrow(() -> new MemberNotFoundException(memberId));
+			.orElseThrow(() -> new MemberNotFoundException(memberId)));
+	}
+
+	// 회원 존재 여부는 캐시로 확인하고, 연관관계에 필요한 회원은 SELECT 없이 프록시로 반환한다.
+	@Override
+	public Member getMemberReference(Long memberId) {
+		getProfile(memberId);
+		return memberRepository.getReferenceById(memberId);
+	}
+
+	// Bloom filter 에 없는 닉네임은 DB 조회 없이 사용 가능으로 판단한다.
+	@Override
+	public boolean isNickNameAvailable(String nickName) {
+		if (!nickNameBloomFilterRepository.mightContain(nickName)) {
+			return true;
+		}
+		return !memberRepository.existsByNickName(nickName);
 	}
 
 	@Override
 	@Transactional
 	public MemberResponse updateProfile(Long memberId, MemberRequest request) {
-		return memberRepository.findById(memberId)
-			.map(member -> update(member, request))
+		MemberResponse member = memberRepository.findById(memberId)
+			.map(it -> update(it, request))
 			.map(MemberResponse::from)
 			.orElseThrow();
-
+		eventPublisher.publishEvent(new MemberChangedEvent(memberId));
+		return member;
 	}
 
 	@Override
+	@Transactional
 	public void deleteProfile(Long memberId) {
-		memberRepository.deleteById(memberId);
+		Member member = memberRepository.findById(memberId)
+			.orElseThrow(() -> new MemberNotFoundException(memberId));
+		memberRepository.delete(member);
+		eventPublisher.publishEvent(new MemberChangedEvent(memberId));
+		eventPublisher.publishEvent(new MemberDeletedEvent(member.getProvider(), member.getOauthId()));
 	}
 
 
+	// 닉네임 중복은 조회 후 저장하지 않고 유니크 인덱스 위반으로 판단한다.
 	private Member update(Member member, MemberRequest request) {
-		Optional<Member> byNickName = memberRepository.findByNickName(request.getNickName());
-		if (byNickName.isEmpty()) {
-			Optional.ofNullable(request.getNickName()).ifPresent(member::setNickName);
+		String nickName = request.getNickName();
+		if (nickName == null) {
 			return member;
-		} else {
-			throw new MemberDuplicateNickName(byNickName.get().getNickName());
 		}
+		if (Objects.equals(member.getNickName(), nickName)) {
+			throw new MemberDuplicateNickName(nickName);
+		}
+		member.setNickName(nickName);
+		try {
+			memberRepository.saveAndFlush(member);
+		} catch (DataIntegrityViolationException e) {
+			throw new MemberDuplicateNickName(nickName);
+		}
+		nickNameBloomFilterRepository.put(nickName);
+		return member;
 	}
 }
@@ -21,6 +21,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.clover.habbittracker.domain.post.dto.PostCursorResponse;
 import com.clover.habbittracker.domain.post.dto.PostDetailResponse;
 import com.clover.habbittracker.domain.post.dto.PostRequest;
 import com.clover.habbittracker.domain.post.dto.PostResponse;
@@ -53,18 +54,32 @@ public class PostController {
 	@GetMapping
 	public ResponseEntity<ApiResponse<List<PostResponse>>> getPostList(
 		@PageableDefault(size = 15) Pageable pageable,
-		@RequestParam(required = false) Post.Category category
+		@RequestParam(required = false) Post.Category category,
+		@AuthenticationPrincipal Long memberId
 	) {
-		List<PostResponse> postList = postService.getPostAllBy(category, pageable);
+		List<PostResponse> postList = postService.getPostAllBy(category, pageable, memberId);
 		ApiResponse<List<PostResponse>> response = ApiResponse.success(postList);
 		return ResponseEntity.ok().body(response);
 	}
 
+	@GetMapping(params = "cursor")
+	public ResponseEntity<ApiResponse<PostCursorResponse>> getPostListByCursor(
+		@PageableDefault(size = 15) Pageable pageable,
+		@RequestParam(required = false) Post.Category category,
+		@RequestParam String cursor,
+		@AuthenticationPrincipal Long memberId
+	) {
+		PostCursorResponse postList = postService.getPostAllBy(category, cursor, pageable.getPageSize(), memberId);
+		ApiResponse<PostCursorResponse> response = ApiResponse.success(postList);
+		return ResponseEntity.ok().body(response);
+	}
+
 	@GetMapping("/{postId}")
 	public ResponseEntity<ApiResponse<PostDetailResponse>> getPost(
-		@PathVariable Long postId
+		@PathVariable Long postId,
+		@AuthenticationPrincipal Long memberId
 	) {
-		PostDetailResponse postDetail = postService.getPostBy(postId);
+		PostDetailResponse postDetail = postService.getPostBy(postId, memberId);
 		ApiResponse<PostDetailResponse> response = ApiResponse.success(postDetail);
 		return ResponseEntity.ok().body(response);
 	}
@@ -72,14 +87,28 @@ public class PostController {
 	@GetMapping("/search")
 	public ResponseEntity<ApiResponse<Page<PostResponse>>> searchPost(
 		@PageableDefault(size = 15) Pageable pageable,
-		@Valid @RequestBody PostSearchCondition postSearchCondition
+		@Valid @RequestBody PostSearchCondition postSearchCondition,
+		@AuthenticationPrincipal Long memberId
 	) {
-		Page<PostResponse> postPages = postService.getPostBy(postSearchCondition, pageable);
+		Page<PostResponse> postPages = postService.getPostBy(postSearchCondition, pageable, memberId);
 		ApiResponse<Page<PostResponse>> response = ApiResponse.success(postPages);
 
 		return ResponseEntity.ok().body(response);
 	}
 
+	@GetMapping(value = "/search", params = "cursor")
+	public ResponseEntity<ApiResponse<PostCursorResponse>> searchPostByCursor(
+		@PageableDefault(size = 15) Pageable pageable,
+		@RequestParam String cursor,
+		@Valid @RequestBody PostSearchCondition postSearchCondition,
+		@AuthenticationPrincipal Long memberId
+	) {
+		PostCursorResponse postList = postService.getPostBy(postSearchCondition, cursor, pageable.getPageSize(),
+			memberId);
+		ApiResponse<PostCursorResponse> response = ApiResponse.success(postList);
+		return ResponseEntity.ok().body(response);
+	}
+
 	@PutMapping("/{postId}")
 	public ResponseEntity<ApiResponse<Void>> updatePost(
 		@PathVariable Long postId,
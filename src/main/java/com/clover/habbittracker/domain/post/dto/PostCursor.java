@@ -0,0 +1,39 @@
+package com.clover.habbittracker.domain.post.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 게시글 피드의 마지막 위치 (createDate, id). 클라이언트에는 불투명한 토큰으로 전달한다.
+public record PostCursor(
+	LocalDateTime createDate,
+	Long id
+) {
+	private static final String DELIMITER = "_";
+
+	public static PostCursor from(PostResponse postResponse) {
+		return new PostCursor(postResponse.createDate(), postResponse.id());
+	}
+
+	// 빈 토큰은 첫 페이지 요청으로 보고 null 을 반환한다.
+	public static PostCursor decode(String token) {
+		if (token == null || token.isBlank()) {
+			return null;
+		}
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+			return new PostCursor(
+				LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+				Long.parseLong(decoded.substring(delimiterIndex + 1)));
+		} catch (IllegalArgumentException | DateTimeParseException | StringIndexOutOfBoundsException e) {
+			throw new IllegalArgumentException("올바르지 않은 커서입니다. cursor = " + token, e);
+		}
+	}
+
+	public String encode() {
+		String raw = createDate + DELIMITER + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,17 @@
+package com.clover.habbittracker.domain.post.dto;
+
+import java.util.List;
+
+public record PostCursorResponse(
+	List<PostResponse> posts,
+	String nextCursor
+) {
+	// size + 1 개를 조회한 결과로 다음 페이지 존재 여부를 판단한다.
+	public static PostCursorResponse of(List<PostResponse> fetched, int size) {
+		if (fetched.size() <= size) {
+			return new PostCursorResponse(fetched, null);
+		}
+		List<PostResponse> posts = fetched.subList(0, size);
+		return new PostCursorResponse(posts, PostCursor.from(posts.get(size - 1)).encode());
+	}
+}
@@ -3,8 +3,8 @@ package com.clover.habbittracker.domain.post.dto;
 import static com.fasterxml.jackson.annotation.JsonFormat.*;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
+import com.clover.habbittracker.domain.emoji.dto.EmojiSummaryResponse;
 import com.clover.habbittracker.domain.emoji.entity.Emoji;
 import com.clover.habbittracker.domain.post.entity.Post;
 import com.fasterxml.jackson.annotation.JsonFormat;
@@ -15,11 +15,18 @@ public record PostDetailResponse(
 	String content,
 	Post.Category category,
 	Long views,
-	List<Emoji> emojis,
+	EmojiSummaryResponse emojiSummary,
 	@JsonFormat(shape = Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
 	LocalDateTime createDate,
 	@JsonFormat(shape = Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
 	LocalDateTime updateDate
 ) {
+	public PostDetailResponse withViews(Long views) {
+		return new PostDetailResponse(memberId, title, content, category, views, emojiSummary, createDate, updateDate);
+	}
 
+	public PostDetailResponse withMyEmojiType(Emoji.Type myEmojiType) {
+		return new PostDetailResponse(memberId, title, content, category, views,
+			emojiSummary.withMyEmojiType(myEmojiType), createDate, updateDate);
+	}
 }
@@ -6,6 +6,7 @@ import java.time.LocalDateTime;
 
 import com.clover.habbittracker.domain.post.entity.Post;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.querydsl.core.annotations.QueryProjection;
 
 public record PostResponse(
@@ -18,9 +19,19 @@ public record PostResponse(
 	Integer numOfComments,
 	Integer numOfEmojis,
 	@JsonFormat(shape = Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
-	LocalDateTime createDate
+	LocalDateTime createDate,
+	@JsonProperty("isBookmarked")
+	boolean isBookmarked
 ) {
+	// 북마크 여부는 회원마다 다르므로 조회 후 withBookmarked 로 채운다.
 	@QueryProjection
-	public PostResponse {
+	public PostResponse(Long id, String title, String content, String thumbnailUrl, Post.Category category,
+		Long views, Integer numOfComments, Integer numOfEmojis, LocalDateTime createDate) {
+		this(id, title, content, thumbnailUrl, category, views, numOfComments, numOfEmojis, createDate, false);
+	}
+
+	public PostResponse withBookmarked(boolean isBookmarked) {
+		return new PostResponse(id, title, content, thumbnailUrl, category, views, numOfComments, numOfEmojis,
+			createDate, isBookmarked);
 	}
 }
@@ -16,12 +16,13 @@ import com.clover.habbittracker.domain.post.dto.PostRequest;
 import com.clover.habbittracker.global.base.entity.BaseEntity;
 import com.clover.habbittracker.global.base.entity.RestDocsEnum;
 
-import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -32,17 +33,18 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
-@Table(name = "post")
+@Table(name = "post",
+	indexes = {
+		@Index(name = "idx_post_feed", columnList = "deleted,category,created_date,id"),
+		@Index(name = "idx_post_feed_all", columnList = "deleted,created_date,id")
+	}
+)
 @NoArgsConstructor(access = PROTECTED)
 @Where(clause = "deleted = false")
 @SQLDelete(sql = "UPDATE post set deleted = true where id=?")
 public class Post extends BaseEntity {
 
-	@OneToMany(
-		mappedBy = "post",
-		cascade = CascadeType.REMOVE,
-		orphanRemoval = true,
-		fetch = FetchType.LAZY)
+	@OneToMany(mappedBy = "post", fetch = FetchType.LAZY) // 게시글 삭제 시 댓글은 벌크 쿼리로 삭제한다.
 	private final List<Comment> comments = new ArrayList<>();
 	@OneToMany
 	@JoinColumn(name = "domainId")
@@ -54,6 +56,10 @@ public class Post extends BaseEntity {
 	private String content;
 	private Category category;
 	private Long views;
+	@Column(updatable = false) // 댓글/이모지 수는 벌크 쿼리로만 변경한다.
+	private Integer commentCount;
+	@Column(updatable = false)
+	private Integer emojiCount;
 	private String thumbnailUrl;
 	@ManyToOne
 	@JoinColumn(name = "memberId")
@@ -67,6 +73,8 @@ public class Post extends BaseEntity {
 		this.thumbnailUrl = thumbnailUrl;
 		this.member = member;
 		this.views = 0L;
+		this.commentCount = 0;
+		this.emojiCount = 0;
 	}
 
 	public void updatePost(PostRequest postRequest) {
@@ -0,0 +1,7 @@
+package com.clover.habbittracker.domain.post.event;
+
+// 게시글 상세 조회 결과에 영향을 주는 변경(수정, 삭제, 이모지 변경)이 발생했음을 알린다.
+public record PostChangedEvent(
+	Long postId
+) {
+}
@@ -0,0 +1,23 @@
+package com.clover.habbittracker.domain.post.event;
+
+import static org.springframework.transaction.event.TransactionPhase.*;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.clover.habbittracker.domain.post.repository.PostDetailCacheRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class PostChangedEventListener {
+
+	private final PostDetailCacheRepository postDetailCacheRepository;
+
+	// 커밋 이전에 지우면 다른 요청이 변경 전 데이터를 다시 캐싱할 수 있으므로 커밋 이후에 지운다.
+	@TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+	public void evictPostDetail(PostChangedEvent event) {
+		postDetailCacheRepository.evict(event.postId());
+	}
+}
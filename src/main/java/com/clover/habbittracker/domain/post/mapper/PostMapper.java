@@ -5,6 +5,7 @@ import static org.mapstruct.ReportingPolicy.*;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
+import com.clover.habbittracker.domain.emoji.dto.EmojiSummaryResponse;
 import com.clover.habbittracker.domain.member.entity.Member;
 import com.clover.habbittracker.domain.post.dto.PostDetailResponse;
 import com.clover.habbittracker.domain.post.dto.PostRequest;
@@ -16,5 +17,6 @@ public interface PostMapper {
 	Post toPost(PostRequest request, Member member);
 
 	@Mapping(source = "post.member.id", target = "memberId")
-	PostDetailResponse toPostDetail(Post post);
+	@Mapping(source = "emojiSummary", target = "emojiSummary")
+	PostDetailResponse toPostDetail(Post post, EmojiSummaryResponse emojiSummary);
 }
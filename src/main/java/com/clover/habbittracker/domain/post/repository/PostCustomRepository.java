@@ -2,7 +2,9 @@ package com.clover.habbittracker.domain.post.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 
+import com.clover.habbittracker.domain.post.dto.PostCursor;
 import com.clover.habbittracker.domain.post.dto.PostResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -14,9 +16,22 @@ import com.clover.habbittracker.domain.post.entity.Post;
 public interface PostCustomRepository {
 	List<PostResponse> findAllPostsSummary(Pageable pageable, Post.Category category);
 
-	Optional<Post> joinMemberAndEmojisFindById(@Param("postId") Long postId);
+	List<PostResponse> findAllPostsSummaryAfter(PostCursor cursor, int limit, Post.Category category);
+
+	Optional<Post> joinMemberFindById(@Param("postId") Long postId);
 
 	Long updateViews(Long postId);
 
+	Long updateCommentCount(Long postId, int delta);
+
+	Long updateEmojiCount(Long postId, int delta);
+
 	Page<PostResponse> searchPostBy(PostSearchCondition postSearchCondition, Pageable pageable);
+
+	Page<PostResponse> searchPostBy(PostSearchCondition postSearchCondition, Pageable pageable,
+		LongSupplier totalSupplier);
+
+	long countPostBy(PostSearchCondition postSearchCondition);
+
+	List<PostResponse> searchPostAfter(PostSearchCondition postSearchCondition, PostCursor cursor, int limit);
 }
@@ -1,18 +1,19 @@
 package com.clover.habbittracker.domain.post.repository;
 
-import static com.clover.habbittracker.domain.emoji.entity.QEmoji.*;
 import static com.clover.habbittracker.domain.member.entity.QMember.*;
 import static com.clover.habbittracker.domain.post.dto.PostSearchCondition.SearchType.*;
 import static com.clover.habbittracker.domain.post.entity.QPost.*;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import com.clover.habbittracker.domain.post.dto.PostCursor;
 import com.clover.habbittracker.domain.post.dto.PostResponse;
 import com.clover.habbittracker.domain.post.dto.PostSearchCondition;
 import com.clover.habbittracker.domain.post.dto.QPostResponse;
@@ -46,13 +47,24 @@ public class PostCustomRepositoryImpl implements PostCustomRepository {
 			.fetch();
 	}
 
+	// (created_date, id) 커서 이후의 게시글을 조회하여 페이지 깊이와 무관하게 인덱스 범위만 읽는다.
 	@Override
-	public Optional<Post> joinMemberAndEmojisFindById(Long postId) {
+	public List<PostResponse> findAllPostsSummaryAfter(PostCursor cursor, int limit, Post.Category category) {
+
+		return jpaQueryFactory
+			.select(QPostResponse())
+			.from(post)
+			.where(eqFilter(category), afterCursor(cursor))
+			.orderBy(post.createDate.desc(), post.id.desc())
+			.limit(limit)
+			.fetch();
+	}
+
+	@Override
+	public Optional<Post> joinMemberFindById(Long postId) {
 		Post result = jpaQueryFactory.selectFrom(post)
 			.leftJoin(post.member, member)
 			.fetchJoin()
-			.leftJoin(post.emojis, emoji)
-			.fetchJoin()
 			.where(eqId(postId))
 			.fetchOne();
 		return Optional.ofNullable(result);
@@ -66,8 +78,31 @@ public class PostCustomRepositoryImpl implements PostCustomRepository {
 			.execute();
 	}
 
+	@Override
+	public Long updateCommentCount(Long postId, int delta) {
+		return jpaQueryFactory.update(post)
+			.set(post.commentCount, post.commentCount.add(delta))
+			.where(eqId(postId))
+			.execute();
+	}
+
+	@Override
+	public Long updateEmojiCount(Long postId, int delta) {
+		return jpaQueryFactory.update(post)
+			.set(post.emojiCount, post.emojiCount.add(delta))
+			.where(eqId(postId))
+			.execute();
+	}
+
 	@Override
 	public Page<PostResponse> searchPostBy(PostSearchCondition postSearchCondition, Pageable pageable) {
+		return searchPostBy(postSearchCondition, pageable, () -> countPostBy(postSearchCondition));
+	}
+
+	// 마지막 페이지처럼 총 개수를 알 수 있는 경우 totalSupplier 는 호출되지 않는다.
+	@Override
+	public Page<PostResponse> searchPostBy(PostSearchCondition postSearchCondition, Pageable pageable,
+		LongSupplier totalSupplier) {
 
 		List<PostResponse> content = jpaQueryFactory
 			.select(QPostResponse())
@@ -82,9 +117,45 @@ public class PostCustomRepositoryImpl implements PostCustomRepository {
 			.distinct()
 			.fetch();
 
-		Integer count = getCount();
+		return PageableExecutionUtils.getPage(content, pageable, totalSupplier);
+	}
+
+	@Override
+	public long countPostBy(PostSearchCondition postSearchCondition) {
+		Long count = jpaQueryFactory
+			.select(post.count())
+			.from(post)
+			.where(
+				eqFilter(postSearchCondition.getCategory()),
+				matchKeyword(postSearchCondition.getSearchType(), postSearchCondition.getKeyword())
+			)
+			.fetchOne();
+		return count == null ? 0L : count;
+	}
+
+	@Override
+	public List<PostResponse> searchPostAfter(PostSearchCondition postSearchCondition, PostCursor cursor,
+		int limit) {
 
-		return new PageImpl<>(content, pageable, count);
+		return jpaQueryFactory
+			.select(QPostResponse())
+			.from(post)
+			.where(
+				eqFilter(postSearchCondition.getCategory()),
+				matchKeyword(postSearchCondition.getSearchType(), postSearchCondition.getKeyword()),
+				afterCursor(cursor)
+			)
+			.orderBy(post.createDate.desc(), post.id.desc())
+			.limit(limit)
+			.fetch();
+	}
+
+	private BooleanExpression afterCursor(PostCursor cursor) {
+		if (cursor == null) {
+			return null;
+		}
+		return post.createDate.lt(cursor.createDate())
+			.or(post.createDate.eq(cursor.createDate()).and(post.id.lt(cursor.id())));
 	}
 
 	private BooleanExpression eqId(Long postId) {
@@ -101,12 +172,6 @@ public class PostCustomRepositoryImpl implements PostCustomRepository {
 		return post.category.eq(category);
 	}
 
-	private Integer getCount() {
-		return jpaQueryFactory.select(post.count())
-			.from(post)
-			.fetch().size();
-	}
-
 	private QPostResponse QPostResponse() {
 		return new QPostResponse(
 			post.id,
@@ -115,8 +180,8 @@ public class PostCustomRepositoryImpl implements PostCustomRepository {
 			post.thumbnailUrl,
 			post.category,
 			post.views,
-			post.comments.size(),
-			post.emojis.size(),
+			post.commentCount,
+			post.emojiCount,
 			post.createDate);
 	}
 
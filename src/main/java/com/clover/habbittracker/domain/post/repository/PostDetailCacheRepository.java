@@ -0,0 +1,83 @@
+package com.clover.habbittracker.domain.post.repository;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.clover.habbittracker.domain.post.dto.PostDetailResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 게시글 상세 조회 결과를 로컬 캐시 -> Redis -> DB 순서로 조회한다.
+// 다른 서버의 로컬 캐시는 무효화 이벤트를 받지 못하므로 로컬 캐시의 유지 시간은 짧게 둔다.
+@Slf4j
+@Repository
+public class PostDetailCacheRepository {
+
+	private static final String KEY_PREFIX = "post:detail:";
+
+	private final Cache<Long, PostDetailResponse> localCache;
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final Duration redisTtl;
+
+	public PostDetailCacheRepository(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+		@Value("${post.detail-cache.local-ttl:PT10S}") Duration localTtl,
+		@Value("${post.detail-cache.local-max-size:1000}") long localMaxSize,
+		@Value("${post.detail-cache.redis-ttl:PT10M}") Duration redisTtl) {
+		this.localCache = Caffeine.newBuilder()
+			.expireAfterWrite(localTtl)
+			.maximumSize(localMaxSize)
+			.build();
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.redisTtl = redisTtl;
+	}
+
+	public PostDetailResponse get(Long postId, Supplier<PostDetailResponse> loader) {
+		return localCache.get(postId, id -> getFromRedis(id).orElseGet(() -> {
+			PostDetailResponse postDetail = loader.get();
+			putToRedis(id, postDetail);
+			return postDetail;
+		}));
+	}
+
+	public void evict(Long postId) {
+		localCache.invalidate(postId);
+		try {
+			redisTemplate.delete(KEY_PREFIX + postId);
+		} catch (DataAccessException e) {
+			log.warn("게시글 상세 캐시 삭제에 실패하였습니다. postId = {}", postId, e);
+		}
+	}
+
+	private Optional<PostDetailResponse> getFromRedis(Long postId) {
+		try {
+			String cached = redisTemplate.opsForValue().get(KEY_PREFIX + postId);
+			if (cached == null) {
+				return Optional.empty();
+			}
+			return Optional.of(objectMapper.readValue(cached, PostDetailResponse.class));
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("게시글 상세 캐시를 조회할 수 없어 DB 에서 조회합니다. postId = {}", postId, e);
+			return Optional.empty();
+		}
+	}
+
+	private void putToRedis(Long postId, PostDetailResponse postDetail) {
+		try {
+			redisTemplate.opsForValue().set(KEY_PREFIX + postId, objectMapper.writeValueAsString(postDetail), redisTtl);
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("게시글 상세 캐시 저장에 실패하였습니다. postId = {}", postId, e);
+		}
+	}
+}
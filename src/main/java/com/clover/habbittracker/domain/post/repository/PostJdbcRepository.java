@@ -0,0 +1,43 @@
+package com.clover.habbittracker.domain.post.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class PostJdbcRepository {
+
+	private static final int CHUNK_SIZE = 500;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	// UPDATE post SET views = views + CASE id WHEN ? THEN ? ... END WHERE id IN (...)
+	@Transactional
+	public void addViews(Map<Long, Long> viewDeltas) {
+		List<Map.Entry<Long, Long>> entries = new ArrayList<>(viewDeltas.entrySet());
+		for (int from = 0; from < entries.size(); from += CHUNK_SIZE) {
+			List<Map.Entry<Long, Long>> chunk = entries.subList(from, Math.min(from + CHUNK_SIZE, entries.size()));
+			StringBuilder sql = new StringBuilder("UPDATE post SET views = views + CASE id");
+			List<Object> params = new ArrayList<>();
+			chunk.forEach(entry -> {
+				sql.append(" WHEN ? THEN ?");
+				params.add(entry.getKey());
+				params.add(entry.getValue());
+			});
+			sql.append(" ELSE 0 END WHERE id IN (")
+				.append(String.join(",", Collections.nCopies(chunk.size(), "?")))
+				.append(")");
+			chunk.forEach(entry -> params.add(entry.getKey()));
+
+			jdbcTemplate.update(sql.toString(), params.toArray());
+		}
+	}
+}
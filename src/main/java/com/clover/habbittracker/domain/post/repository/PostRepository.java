@@ -1,8 +1,15 @@
 package com.clover.habbittracker.domain.post.repository;
 
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.clover.habbittracker.domain.post.entity.Post;
 
 public interface PostRepository extends PostCustomRepository, JpaRepository<Post, Long> {
+
+	@Query("SELECT p.views FROM Post p WHERE p.id = :postId")
+	Optional<Long> findViewsById(@Param("postId") Long postId);
 }
@@ -0,0 +1,61 @@
+package com.clover.habbittracker.domain.post.repository;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.clover.habbittracker.domain.post.dto.PostSearchCondition;
+import com.clover.habbittracker.domain.post.entity.Post;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 검색 조건별 게시글 총 개수를 짧게 캐싱하여 페이지를 넘길 때마다 FULLTEXT COUNT 가 실행되지 않도록 한다.
+@Slf4j
+@Repository
+public class PostSearchCountRedisRepository {
+
+	private static final String KEY_PREFIX = "post:search:count:";
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final Duration ttl;
+
+	public PostSearchCountRedisRepository(RedisTemplate<String, Object> redisTemplate,
+		@Value("${post.search-count-cache.ttl:PT1M}") Duration ttl) {
+		this.redisTemplate = redisTemplate;
+		this.ttl = ttl;
+	}
+
+	public long getCount(PostSearchCondition condition, LongSupplier countLoader) {
+		String key = getKey(condition);
+		try {
+			Object cached = redisTemplate.opsForValue().get(key);
+			if (cached instanceof Number count) {
+				return count.longValue();
+			}
+		} catch (DataAccessException e) {
+			log.warn("게시글 검색 개수 캐시를 조회할 수 없어 DB 에서 조회합니다. key = {}", key, e);
+			return countLoader.getAsLong();
+		}
+
+		long count = countLoader.getAsLong();
+		try {
+			redisTemplate.opsForValue().set(key, count, ttl);
+		} catch (DataAccessException e) {
+			log.warn("게시글 검색 개수 캐시 저장에 실패하였습니다. key = {}", key, e);
+		}
+		return count;
+	}
+
+	private String getKey(PostSearchCondition condition) {
+		Post.Category category = Objects.requireNonNullElse(condition.getCategory(), Post.Category.ALL);
+		PostSearchCondition.SearchType searchType =
+			Objects.requireNonNullElse(condition.getSearchType(), PostSearchCondition.SearchType.ALL);
+		String keyword = condition.getKeyword() == null ? "" : condition.getKeyword().strip();
+		return KEY_PREFIX + category.name() + ":" + searchType.name() + ":" + keyword;
+	}
+}
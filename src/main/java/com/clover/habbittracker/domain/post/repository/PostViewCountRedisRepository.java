@@ -0,0 +1,142 @@
+package com.clover.habbittracker.domain.post.repository;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 게시글 조회수 증가분을 Redis Hash 에 모아 두었다가 스케줄러가 주기적으로 DB 에 반영한다.
+@Slf4j
+@Repository
+public class PostViewCountRedisRepository {
+
+	private static final String DELTA_KEY = "post:view:delta";
+	private static final String FLUSHING_KEY_PREFIX = "post:view:flushing:";
+	private static final String FLUSHING_KEYS = "post:view:flushing-keys";
+	private static final long RESTORE_BATCH_SIZE = 100;
+	private static final String VIEWER_KEY_PREFIX = "post:view:viewer:";
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final Duration dedupeWindow;
+	private final Duration flushingTimeout;
+
+	public PostViewCountRedisRepository(RedisTemplate<String, Object> redisTemplate,
+		@Value("${post.view-count.dedupe-window:PT10M}") Duration dedupeWindow,
+		@Value("${post.view-count.flushing-timeout:PT10M}") Duration flushingTimeout) {
+		this.redisTemplate = redisTemplate;
+		this.dedupeWindow = dedupeWindow;
+		this.flushingTimeout = flushingTimeout;
+	}
+
+	// 같은 회원이 dedupeWindow 안에 다시 조회한 경우는 조회수에 포함하지 않는다. 반영 대기 중인 조회수를 반환한다.
+	public long increment(Long postId, Long memberId) {
+		try {
+			if (memberId != null && !isFirstViewInWindow(postId, memberId)) {
+				return getPendingViews(postId);
+			}
+			Long pendingViews = redisTemplate.opsForHash().increment(DELTA_KEY, postId.toString(), 1);
+			return pendingViews == null ? 0L : pendingViews;
+		} catch (DataAccessException e) {
+			log.warn("조회수 캐시에 접근할 수 없어 조회수를 반영하지 못했습니다. postId = {}", postId, e);
+			return 0L;
+		}
+	}
+
+	// 아직 DB 에 반영되지 않은 조회수
+	public long getPendingViews(Long postId) {
+		try {
+			Object delta = redisTemplate.opsForHash().get(DELTA_KEY, postId.toString());
+			return delta instanceof Number number ? number.longValue() : 0L;
+		} catch (DataAccessException e) {
+			log.warn("조회수 캐시를 조회할 수 없습니다. postId = {}", postId, e);
+			return 0L;
+		}
+	}
+
+	// 누적된 증가분을 다른 키로 옮긴 뒤 반영한다. 반영에 실패하면 증가분을 되돌려 다음 주기에 다시 시도한다.
+	public void drain(Consumer<Map<Long, Long>> flusher) {
+		restoreAbandonedDeltas();
+		String flushingKey = createFlushingKey();
+		if (!moveDeltas(DELTA_KEY, flushingKey)) {
+			return;
+		}
+
+		Map<Long, Long> deltas = new HashMap<>();
+		redisTemplate.opsForHash().entries(flushingKey).forEach((postId, delta) ->
+			deltas.put(Long.valueOf(postId.toString()), ((Number)delta).longValue()));
+		try {
+			flusher.accept(deltas);
+		} catch (RuntimeException e) {
+			deltas.forEach((postId, delta) ->
+				redisTemplate.opsForHash().increment(DELTA_KEY, postId.toString(), delta));
+			throw e;
+		} finally {
+			deleteFlushingKey(flushingKey);
+		}
+	}
+
+	private boolean isFirstViewInWindow(Long postId, Long memberId) {
+		String viewerKey = VIEWER_KEY_PREFIX + postId + ":" + memberId;
+		return !Boolean.FALSE.equals(redisTemplate.opsForValue().setIfAbsent(viewerKey, true, dedupeWindow));
+	}
+
+	// 반영 도중 서버가 종료되어 flushingTimeout 이 지나도록 남아 있는 증가분을 DELTA_KEY 로 되돌린다.
+	// 전체 키를 SCAN 하지 않도록 반영 중인 키는 시작 시각을 점수로 FLUSHING_KEYS 에 등록해 둔다.
+	private void restoreAbandonedDeltas() {
+		long abandonedBefore = System.currentTimeMillis() - flushingTimeout.toMillis();
+		Set<Object> abandonedKeys = redisTemplate.opsForZSet()
+			.rangeByScore(FLUSHING_KEYS, Double.NEGATIVE_INFINITY, abandonedBefore, 0, RESTORE_BATCH_SIZE);
+		if (abandonedKeys == null) {
+			return;
+		}
+		abandonedKeys.forEach(abandonedKey -> restoreDeltas(abandonedKey.toString()));
+	}
+
+	// 다른 서버와 동시에 되돌리지 않도록 새 키로 옮긴 서버만 되돌린다.
+	private void restoreDeltas(String abandonedKey) {
+		String restoringKey = createFlushingKey();
+		boolean moved = moveDeltas(abandonedKey, restoringKey);
+		redisTemplate.opsForZSet().remove(FLUSHING_KEYS, abandonedKey);
+		if (!moved) {
+			return;
+		}
+		redisTemplate.opsForHash().entries(restoringKey).forEach((postId, delta) ->
+			redisTemplate.opsForHash().increment(DELTA_KEY, postId.toString(), ((Number)delta).longValue()));
+		deleteFlushingKey(restoringKey);
+	}
+
+	private String createFlushingKey() {
+		return FLUSHING_KEY_PREFIX + UUID.randomUUID();
+	}
+
+	private void deleteFlushingKey(String flushingKey) {
+		redisTemplate.delete(flushingKey);
+		redisTemplate.opsForZSet().remove(FLUSHING_KEYS, flushingKey);
+	}
+
+	// 옮기는 도중 서버가 종료되어도 되돌릴 수 있도록 키를 먼저 등록한 뒤 옮긴다.
+	private boolean moveDeltas(String sourceKey, String flushingKey) {
+		if (!Boolean.TRUE.equals(redisTemplate.hasKey(sourceKey))) {
+			return false;
+		}
+		redisTemplate.opsForZSet().add(FLUSHING_KEYS, flushingKey, System.currentTimeMillis());
+		try {
+			redisTemplate.rename(sourceKey, flushingKey);
+			return true;
+		} catch (DataAccessException e) {
+			// 다른 서버가 먼저 가져간 경우
+			log.debug("조회수 증가분이 이미 반영 중입니다.", e);
+			redisTemplate.opsForZSet().remove(FLUSHING_KEYS, flushingKey);
+			return false;
+		}
+	}
+}
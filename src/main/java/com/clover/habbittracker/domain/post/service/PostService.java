@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import com.clover.habbittracker.domain.post.dto.PostCursorResponse;
 import com.clover.habbittracker.domain.post.dto.PostDetailResponse;
 import com.clover.habbittracker.domain.post.dto.PostRequest;
 import com.clover.habbittracker.domain.post.dto.PostResponse;
@@ -14,11 +15,16 @@ import com.clover.habbittracker.domain.post.entity.Post;
 public interface PostService {
 	Long register(Long memberId, PostRequest request);
 
-	PostDetailResponse getPostBy(Long postId);
+	PostDetailResponse getPostBy(Long postId, Long memberId);
 
-	List<PostResponse> getPostAllBy(Post.Category category, Pageable pageable);
+	List<PostResponse> getPostAllBy(Post.Category category, Pageable pageable, Long memberId);
 
-	Page<PostResponse> getPostBy(PostSearchCondition postSearchCondition, Pageable pageable);
+	Page<PostResponse> getPostBy(PostSearchCondition postSearchCondition, Pageable pageable, Long memberId);
+
+	PostCursorResponse getPostAllBy(Post.Category category, String cursor, int size, Long memberId);
+
+	PostCursorResponse getPostBy(PostSearchCondition postSearchCondition, String cursor, int size,
+		Long memberId);
 
 	Long updatePost(Long postId, PostRequest request, Long memberId);
 
@@ -1,21 +1,33 @@
 package com.clover.habbittracker.domain.post.service;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import com.clover.habbittracker.domain.post.dto.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.clover.habbittracker.domain.bookmark.repository.BookmarkPostRepository;
+import com.clover.habbittracker.domain.comment.repository.CommentRepository;
+import com.clover.habbittracker.domain.emoji.dto.EmojiSummaryResponse;
+import com.clover.habbittracker.domain.emoji.entity.Emoji;
+import com.clover.habbittracker.domain.emoji.repository.EmojiRepository;
 import com.clover.habbittracker.domain.member.entity.Member;
-import com.clover.habbittracker.domain.member.exception.MemberNotFoundException;
-import com.clover.habbittracker.domain.member.repository.MemberRepository;
+import com.clover.habbittracker.domain.member.service.MemberService;
 import com.clover.habbittracker.domain.post.entity.Post;
+import com.clover.habbittracker.domain.post.event.PostChangedEvent;
 import com.clover.habbittracker.domain.post.exception.PostNotFoundException;
 import com.clover.habbittracker.domain.post.mapper.PostMapper;
+import com.clover.habbittracker.domain.post.repository.PostDetailCacheRepository;
 import com.clover.habbittracker.domain.post.repository.PostRepository;
+import com.clover.habbittracker.domain.post.repository.PostSearchCountRedisRepository;
+import com.clover.habbittracker.domain.post.repository.PostViewCountRedisRepository;
 import com.clover.habbittracker.global.base.exception.PermissionDeniedException;
 
 import lombok.RequiredArgsConstructor;
@@ -26,10 +38,24 @@ public class PostServiceImpl implements PostService {
 
 	private final PostRepository postRepository;
 
-	private final MemberRepository memberRepository;
+	private final PostSearchCountRedisRepository postSearchCountRedisRepository;
+
+	private final PostViewCountRedisRepository postViewCountRedisRepository;
+
+	private final PostDetailCacheRepository postDetailCacheRepository;
+
+	private final MemberService memberService;
+
+	private final EmojiRepository emojiRepository;
+
+	private final CommentRepository commentRepository;
+
+	private final BookmarkPostRepository bookmarkPostRepository;
 
 	private final PostMapper postMapper;
 
+	private final ApplicationEventPublisher eventPublisher;
+
 	@Transactional
 	public Long register(Long memberId, PostRequest request) {
 		Member member = getMemberBy(memberId);
@@ -39,43 +65,90 @@ public class PostServiceImpl implements PostService {
 		return savedPost.getId();
 	}
 
+	// 상세 내용은 캐시에서 읽고, 조회수와 회원의 이모지는 요청마다 덮어쓴다.
+	// 조회수는 PK 조회 결과에 Redis 에 누적된 조회수를 더한다.
+	// 조회수는 PostViewCountFlushJob 이 일괄 반영한다.
 	@Override
-	@Transactional
-	public PostDetailResponse getPostBy(Long postId) {
-		Post post = postRepository.joinMemberAndEmojisFindById(postId)
+	@Transactional(readOnly = true)
+	public PostDetailResponse getPostBy(Long postId, Long memberId) {
+		Long views = postRepository.findViewsById(postId)
 			.orElseThrow(() -> new PostNotFoundException(postId));
-		postRepository.updateViews(post.getId());
-		return postMapper.toPostDetail(post);
+		PostDetailResponse postDetail = postDetailCacheRepository.get(postId, () -> loadPostDetail(postId));
+		long pendingViews = postViewCountRedisRepository.increment(postId, memberId);
+		Emoji.Type myEmojiType = emojiRepository.findByUniqueKey(memberId, Emoji.Domain.POST, postId)
+			.map(Emoji::getType)
+			.orElse(null);
+		return postDetail.withViews(views + pendingViews).withMyEmojiType(myEmojiType);
+	}
 
+	@Override
+	public Page<PostResponse> getPostBy(PostSearchCondition postSearchCondition, Pageable pageable, Long memberId) {
+		Page<PostResponse> posts = postRepository.searchPostBy(postSearchCondition, pageable,
+			() -> postSearchCountRedisRepository.getCount(postSearchCondition,
+				() -> postRepository.countPostBy(postSearchCondition)));
+		Set<Long> bookmarkedPostIds = findBookmarkedPostIds(posts.getContent(), memberId);
+		return posts.map(post -> post.withBookmarked(bookmarkedPostIds.contains(post.id())));
 	}
 
 	@Override
-	public Page<PostResponse> getPostBy(PostSearchCondition postSearchCondition, Pageable pageable) {
-		return postRepository.searchPostBy(postSearchCondition, pageable);
+	public List<PostResponse> getPostAllBy(Post.Category category, Pageable pageable, Long memberId) {
+		List<PostResponse> posts = postRepository.findAllPostsSummary(pageable, category);
+		return markBookmarked(posts, memberId);
 	}
 
 	@Override
-	public List<PostResponse> getPostAllBy(Post.Category category, Pageable pageable) {
-		return postRepository.findAllPostsSummary(pageable, category);
+	public PostCursorResponse getPostAllBy(Post.Category category, String cursor, int size, Long memberId) {
+		List<PostResponse> posts = postRepository.findAllPostsSummaryAfter(PostCursor.decode(cursor), size + 1,
+			category);
+		return PostCursorResponse.of(markBookmarked(posts, memberId), size);
+	}
+
+	@Override
+	public PostCursorResponse getPostBy(PostSearchCondition postSearchCondition, String cursor, int size,
+		Long memberId) {
+		List<PostResponse> posts = postRepository.searchPostAfter(postSearchCondition, PostCursor.decode(cursor),
+			size + 1);
+		return PostCursorResponse.of(markBookmarked(posts, memberId), size);
 	}
 
 	@Override
 	@Transactional
 	public Long updatePost(Long postId, PostRequest request, Long memberId) {
-		Post post = postRepository.joinMemberAndEmojisFindById(postId)
+		Post post = postRepository.joinMemberFindById(postId)
 			.orElseThrow(() -> new PostNotFoundException(postId));
 		verifyPermissions(post.getMember(), memberId);
 		post.updatePost(request);
+		eventPublisher.publishEvent(new PostChangedEvent(postId));
 		return post.getId();
 	}
 
 	@Override
 	@Transactional
 	public void deletePost(Long postId, Long memberId) {
-		Post post = postRepository.joinMemberAndEmojisFindById(postId)
+		Post post = postRepository.joinMemberFindById(postId)
 			.orElseThrow(() -> new PostNotFoundException(postId));
 		verifyPermissions(post.getMember(), memberId);
-		postRepository.deleteById(postId);
+		// 이모지는 삭제되지 않은 댓글을 기준으로 찾으므로 댓글보다 먼저 삭제한다.
+		emojiRepository.softDeleteAllInPost(postId);
+		commentRepository.softDeleteAllByPostId(postId);
+		postRepository.delete(post);
+		eventPublisher.publishEvent(new PostChangedEvent(postId));
+	}
+
+	private List<PostResponse> markBookmarked(List<PostResponse> posts, Long memberId) {
+		Set<Long> bookmarkedPostIds = findBookmarkedPostIds(posts, memberId);
+		return posts.stream()
+			.map(post -> post.withBookmarked(bookmarkedPostIds.contains(post.id())))
+			.toList();
+	}
+
+	// 조회한 페이지의 게시글 중 회원이 북마크한 게시글을 한 번의 쿼리로 확인한다.
+	private Set<Long> findBookmarkedPostIds(List<PostResponse> posts, Long memberId) {
+		if (memberId == null || posts.isEmpty()) {
+			return Collections.emptySet();
+		}
+		List<Long> postIds = posts.stream().map(PostResponse::id).toList();
+		return new HashSet<>(bookmarkPostRepository.findBookmarkedPostIds(memberId, postIds));
 	}
 
 	private void verifyPermissions(Member member, Long memberId) {
@@ -84,8 +157,15 @@ public class PostServiceImpl implements PostService {
 		}
 	}
 
+	private PostDetailResponse loadPostDetail(Long postId) {
+		Post post = postRepository.joinMemberFindById(postId)
+			.orElseThrow(() -> new PostNotFoundException(postId));
+		EmojiSummaryResponse emojiSummary = EmojiSummaryResponse.of(
+			emojiRepository.countByType(Emoji.Domain.POST, postId));
+		return postMapper.toPostDetail(post, emojiSummary);
+	}
+
 	private Member getMemberBy(Long memberId) {
-		return memberRepository.findById(memberId)
-			.orElseThrow(() -> new MemberNotFoundException(memberId));
+		return memberService.getMemberReference(memberId);
 	}
 }
@@ -0,0 +1,71 @@
+package com.clover.habbittracker.global.auth.jwt;
+
+import static java.nio.charset.StandardCharsets.*;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.Claims;
+
+// 서명 검증을 마친 토큰의 Claims 를 토큰의 만료 시각까지만 보관한다.
+// 토큰 원문 대신 SHA-256 해시를 키로 사용하여 메모리에 토큰이 남지 않도록 한다.
+@Component
+public class JwtClaimsCache {
+
+	private final Cache<String, Claims> cache;
+
+	public JwtClaimsCache(@Value("${jwt.claims-cache.max-size:10000}") long maxSize) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfter(new ClaimsExpiry())
+			.build();
+	}
+
+	// verifier 에서 발생한 예외(만료, 서명 오류)는 캐싱되지 않고 그대로 전달된다.
+	public Claims get(String token, Function<String, Claims> verifier) {
+		return cache.get(hash(token), key -> verifier.apply(token));
+	}
+
+	private String hash(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(UTF_8));
+			return Base64.getEncoder().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static class ClaimsExpiry implements Expiry<String, Claims> {
+
+		@Override
+		public long expireAfterCreate(String key, Claims claims, long currentTime) {
+			Date expiration = claims.getExpiration();
+			if (expiration == null) {
+				return 0L;
+			}
+			long remainingMs = expiration.getTime() - System.currentTimeMillis();
+			return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0L));
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+
+		@Override
+		public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
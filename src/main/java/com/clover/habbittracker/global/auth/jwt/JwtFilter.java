@@ -24,8 +24,12 @@ import lombok.RequiredArgsConstructor;
 @Component
 public class JwtFilter extends OncePerRequestFilter {
 
+	private static final WebAuthenticationDetailsSource DETAILS_SOURCE = new WebAuthenticationDetailsSource();
+
 	private final JwtProvider jwtProvider;
 
+	private final JwtClaimsCache jwtClaimsCache;
+
 	@Override
 	protected boolean shouldNotFilter(HttpServletRequest request) {
 		return request.getRequestURI().endsWith("token") || request.getHeader(HttpHeaders.AUTHORIZATION) == null;
@@ -41,7 +45,7 @@ public class JwtFilter extends OncePerRequestFilter {
 		// 권한 부여
 		UsernamePasswordAuthenticationToken authenticationToken = createAuthentication(token);
 		// userDetail 작성
-		authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+		authenticationToken.setDetails(DETAILS_SOURCE.buildDetails(request));
 		SecurityContextHolder.getContext().setAuthentication(authenticationToken);
 
 		filterChain.doFilter(request, response);
@@ -61,7 +65,8 @@ public class JwtFilter extends OncePerRequestFilter {
 	}
 
 	public UsernamePasswordAuthenticationToken createAuthentication(String token) {
-		Claims payload = jwtProvider.getClaims(token);
+		// 이미 검증한 토큰은 만료 전까지 서명 검증을 다시 하지 않는다.
+		Claims payload = jwtClaimsCache.get(token, jwtProvider::getClaims);
 		Long userId = payload.get("userId", Long.class);
 
 		return new UsernamePasswordAuthenticationToken(userId,
@@ -1,8 +1,11 @@
 package com.clover.habbittracker.global.auth.jwt;
 
+import java.security.Key;
 import java.util.Date;
 import java.util.UUID;
 
+import javax.crypto.spec.SecretKeySpec;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -12,17 +15,20 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.impl.TextCodec;
 
 @Component
 public class JwtProvider {
-	private final String SECRET_KEY;
+	// 문자열 키를 요청마다 Base64 디코딩하지 않도록 서명 키를 미리 만들어 둔다.
+	private final Key SIGNING_KEY;
 	private final Long ACCESS_EXPIRED_MS;
 
 	private final Long REFRESH_EXPIRED_MS;
 
 	public JwtProvider(@Value("${jwt.secret}") String secretKey, @Value("${jwt.expiredMs}") Long expiredMs,
 		@Value("${jwt.refreshExpiredMs}") Long refreshExpiredMs) {
-		this.SECRET_KEY = secretKey;
+		this.SIGNING_KEY = new SecretKeySpec(TextCodec.BASE64.decode(secretKey),
+			SignatureAlgorithm.HS256.getJcaName());
 		this.ACCESS_EXPIRED_MS = expiredMs;
 		this.REFRESH_EXPIRED_MS = refreshExpiredMs;
 	}
@@ -34,14 +40,14 @@ public class JwtProvider {
 		return Jwts.builder().setClaims(claims)
 			.setIssuedAt(new Date(System.currentTimeMillis()))
 			.setExpiration(new Date(System.currentTimeMillis() + ACCESS_EXPIRED_MS))
-			.signWith(SignatureAlgorithm.HS256, SECRET_KEY)
+			.signWith(SignatureAlgorithm.HS256, SIGNING_KEY)
 			.compact();
 	}
 
 	public Claims getClaims(String token) {
 		try {
 			return Jwts.parser()
-				.setSigningKey(SECRET_KEY)
+				.setSigningKey(SIGNING_KEY)
 				.parseClaimsJws(token)
 				.getBody();
 		} catch (ExpiredJwtException e) {
@@ -53,7 +59,7 @@ public class JwtProvider {
 	// public void validOf(String token) {
 	// 	try {
 	// 		Jwts.parser()
-	// 			.setSigningKey(SECRET_KEY)
+	// 			.setSigningKey(SIGNING_KEY)
 	// 			.parseClaimsJws(token);
 	// 	} catch (ExpiredJwtException e) {
 	// 		throw new JwtStructureException();
@@ -69,7 +75,7 @@ public class JwtProvider {
 			.setClaims(claims)
 			.setIssuedAt(new Date(System.currentTimeMillis()))
 			.setExpiration(new Date(System.currentTimeMillis() + REFRESH_EXPIRED_MS))
-			.signWith(SignatureAlgorithm.HS256, SECRET_KEY)
+			.signWith(SignatureAlgorithm.HS256, SIGNING_KEY)
 			.compact();
 	}
 
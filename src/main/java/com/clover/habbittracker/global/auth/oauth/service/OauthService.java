@@ -1,11 +1,18 @@
 package com.clover.habbittracker.global.auth.oauth.service;
 
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import com.clover.habbittracker.domain.member.entity.Member;
 import com.clover.habbittracker.domain.member.entity.ProfileImg;
 import com.clover.habbittracker.domain.member.exception.MemberNotFoundException;
 import com.clover.habbittracker.domain.member.repository.MemberRepository;
+import com.clover.habbittracker.domain.member.repository.NickNameBloomFilterRepository;
+import com.clover.habbittracker.domain.member.repository.OauthMemberCacheRepository;
+import com.clover.habbittracker.domain.member.service.MemberService;
 import com.clover.habbittracker.global.auth.jwt.JwtProvider;
 import com.clover.habbittracker.global.auth.oauth.dto.SocialUser;
 
@@ -21,14 +28,30 @@ public class OauthService {
 
 	private final MemberRepository memberRepository;
 
+	private final MemberService memberService;
+
+	private final NickNameBloomFilterRepository nickNameBloomFilterRepository;
+
+	private final OauthMemberCacheRepository oauthMemberCacheRepository;
+
 	private final String LOGIN_FORM = "Success Login Id : {}, Name : {}, Provider : {}";
 
 	private final String LOGOUT_FORM = "Success Logout Id : {}, Name : {}, Provider : {}";
 
+	private static final String NICK_NAME_PREFIX = "해비터_";
+
+	private static final int NICK_NAME_RETRY = 5;
+
+	private static final int NICK_NAME_SUFFIX_DIGITS = 4;
+
+	// 가입된 회원이면 캐시 -> (provider, oauthId) 인덱스 순서로 조회하고, 없으면 가입시킨다.
 	public String login(SocialUser socialUser) {
-		Long userId = memberRepository.findByProviderAndOauthId(socialUser.provider(), socialUser.oauthId())
-			.map(Member::getId)
-			.orElseGet(() -> register(socialUser).getId());
+		Long userId = oauthMemberCacheRepository.findMemberId(socialUser.provider(), socialUser.oauthId())
+			.orElseGet(() -> {
+				Long memberId = findOrRegister(socialUser);
+				oauthMemberCacheRepository.put(socialUser.provider(), socialUser.oauthId(), memberId);
+				return memberId;
+			});
 		log.info(LOGIN_FORM, userId, socialUser.nickName(), socialUser.provider());
 		return jwtProvider.createAccessJwt(userId);
 	}
@@ -39,14 +62,56 @@ public class OauthService {
 
 	}
 
-	private Member register(SocialUser socialUser) {
-		return memberRepository.save(
+	private Long findOrRegister(SocialUser socialUser) {
+		return memberRepository.findByProviderAndOauthId(socialUser.provider(), socialUser.oauthId())
+			.map(Member::getId)
+			.orElseGet(() -> register(socialUser));
+	}
+
+	// 닉네임 유니크 인덱스에 막히면 새 닉네임으로 다시 가입시키고,
+	// (provider, oauthId) 유니크 인덱스에 막히면 같은 소셜 계정으로 먼저 가입된 회원으로 로그인한다.
+	private Long register(SocialUser socialUser) {
+		String baseNickName = NICK_NAME_PREFIX + socialUser.nickName();
+		String nickName = memberService.isNickNameAvailable(baseNickName)
+			? baseNickName : withRandomSuffix(baseNickName, 0);
+		for (int retry = 1; ; retry++) {
+			try {
+				return save(socialUser, nickName);
+			} catch (DataIntegrityViolationException e) {
+				if (!isNickNameDuplicated(e)) {
+					return memberRepository.findByProviderAndOauthId(socialUser.provider(), socialUser.oauthId())
+						.map(Member::getId)
+						.orElseThrow(() -> e);
+				}
+				if (retry > NICK_NAME_RETRY) {
+					throw e;
+				}
+				nickName = withRandomSuffix(baseNickName, retry);
+			}
+		}
+	}
+
+	private Long save(SocialUser socialUser, String nickName) {
+		Member member = memberRepository.save(
 			Member.builder()
 				.email(socialUser.email())
 				.oauthId(socialUser.oauthId())
-				.nickName("해비터_" + socialUser.nickName())
+				.nickName(nickName)
 				.provider(socialUser.provider())
 				.profileImgUrl(ProfileImg.getRandProfileImg().getImgUrl())
 				.build());
+		nickNameBloomFilterRepository.put(nickName);
+		return member.getId();
+	}
+
+	private boolean isNickNameDuplicated(DataIntegrityViolationException e) {
+		return String.valueOf(NestedExceptionUtils.getMostSpecificCause(e).getMessage())
+			.contains(Member.NICK_NAME_INDEX);
+	}
+
+	// 다시 시도할수록 붙이는 숫자의 자릿수를 늘려 또 겹칠 확률을 줄인다.
+	private String withRandomSuffix(String nickName, int retry) {
+		long bound = (long)Math.pow(10, NICK_NAME_SUFFIX_DIGITS + retry);
+		return nickName + ThreadLocalRandom.current().nextLong(bound / 10, bound);
 	}
 }
@@ -11,9 +11,11 @@ public enum ResponseType {
 	HABIT_DELETE("습관이 정상적으로 삭제 되었습니다."),
 	HABIT_CHECK_CREATE("습관 체크가 정상적으로 생성 되었습니다."),
 	HABIT_CHECK_DELETE("습관 체크가 정상적으로 삭제 되었습니다."),
+	HABIT_CHECK_UPDATE("습관 체크 요청이 정상적으로 반영 되었습니다."),
 	MEMBER_READ("회원 조회 요청이 성공하였습니다."),
 	MEMBER_UPDATE("회원 정보가 정상적으로 업데이트 되었습니다."),
 	MEMBER_DELETE("회원이 정상적으로 삭제 되었습니다."),
+	MEMBER_NICKNAME_READ("닉네임 사용 가능 여부 조회 요청이 성공하였습니다."),
 	DIARY_CREATE("회고록이 정상적으로 생성 되었습니다."),
 	DIARY_READ("회고록 조회 요청이 성공하였습니다."),
 	DIARY_UPDATE("회고록 정보가 정상적으로 업데이트 되었습니다."),
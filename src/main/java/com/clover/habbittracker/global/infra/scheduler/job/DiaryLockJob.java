@@ -0,0 +1,38 @@
+package com.clover.habbittracker.global.infra.scheduler.job;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.clover.habbittracker.domain.diary.repository.DiaryRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 수정 마감이 지난 회고록을 일괄로 잠근다. 한 번에 잠그는 행 수를 제한하여 락 점유 시간을 짧게 유지한다.
+@Slf4j
+@Component
+public class DiaryLockJob {
+
+	private final DiaryRepository diaryRepository;
+	private final int batchSize;
+
+	public DiaryLockJob(DiaryRepository diaryRepository, @Value("${diary.lock.batch-size:1000}") int batchSize) {
+		this.diaryRepository = diaryRepository;
+		this.batchSize = batchSize;
+	}
+
+	@Scheduled(fixedDelayString = "${diary.lock.interval:PT1M}")
+	public void lock() {
+		try {
+			LocalDateTime now = LocalDateTime.now();
+			int locked;
+			do {
+				locked = diaryRepository.lockExpired(now, batchSize);
+			} while (locked == batchSize);
+		} catch (RuntimeException e) {
+			log.warn("회고록 잠금에 실패하여 다음 주기에 다시 시도합니다.", e);
+		}
+	}
+}
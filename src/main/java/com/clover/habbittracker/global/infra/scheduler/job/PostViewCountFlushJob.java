@@ -0,0 +1,28 @@
+package com.clover.habbittracker.global.infra.scheduler.job;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.clover.habbittracker.domain.post.repository.PostJdbcRepository;
+import com.clover.habbittracker.domain.post.repository.PostViewCountRedisRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCountFlushJob {
+
+	private final PostViewCountRedisRepository postViewCountRedisRepository;
+	private final PostJdbcRepository postJdbcRepository;
+
+	@Scheduled(fixedDelayString = "${post.view-count.flush-interval:PT10S}")
+	public void flush() {
+		try {
+			postViewCountRedisRepository.drain(postJdbcRepository::addViews);
+		} catch (RuntimeException e) {
+			log.warn("게시글 조회수 반영에 실패하여 다음 주기에 다시 시도합니다.", e);
+		}
+	}
+}
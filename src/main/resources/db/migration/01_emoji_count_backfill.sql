@@ -0,0 +1,30 @@
+-- 운영 DB 에 한 번만 실행한다. (ddl-auto: none)
+-- emoji_count 테이블 생성 직후, 기존 이모지 반응을 종류별 개수로 채운다.
+-- 삭제 상태(NONE)와 soft delete 된 이모지는 집계하지 않는다.
+-- 다시 실행하면 기존 개수를 모두 0 으로 되돌린 뒤 현재 개수로 덮어쓰므로, 이모지가 모두 지워진 종류도 0 이 된다.
+
+create table if not exists emoji_count
+(
+    id        bigint auto_increment primary key,
+    domain    varchar(30) not null,
+    domain_id bigint      not null,
+    type      varchar(30) not null,
+    count     bigint      not null default 0,
+
+    unique index idx_emoji_count_unique (domain, domain_id, type)
+);
+
+START TRANSACTION;
+
+UPDATE emoji_count
+SET count = 0;
+
+INSERT INTO emoji_count (domain, domain_id, type, count)
+SELECT domain, domain_id, type, COUNT(*)
+FROM emoji
+WHERE deleted = false
+  AND type <> 'NONE'
+GROUP BY domain, domain_id, type
+ON DUPLICATE KEY UPDATE count = VALUES(count);
+
+COMMIT;
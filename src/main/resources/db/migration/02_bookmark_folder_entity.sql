@@ -0,0 +1,25 @@
+-- 운영 DB 에 한 번만 실행한다. (ddl-auto: none)
+-- @ManyToMany 조인 테이블이던 bookmark_folder 를 BookmarkPost 엔티티 테이블로 바꾼다.
+-- posts_id 를 post_id 로 바꾸고 PK 와 (bookmark_id, post_id) 유니크 인덱스를 추가한다.
+-- 이전 @ManyToMany 가 허용한 중복 행과 post_id 가 없는 행은 옮기지 않는다.
+
+create table bookmark_folder_new
+(
+    id          bigint auto_increment primary key,
+    bookmark_id bigint not null,
+    post_id     bigint not null,
+
+    unique index idx_bookmark_folder_unique (bookmark_id, post_id)
+);
+
+INSERT INTO bookmark_folder_new (bookmark_id, post_id)
+SELECT bookmark_id, posts_id
+FROM bookmark_folder
+WHERE posts_id IS NOT NULL
+GROUP BY bookmark_id, posts_id;
+
+RENAME TABLE bookmark_folder TO bookmark_folder_old,
+    bookmark_folder_new TO bookmark_folder;
+
+-- 결과를 확인한 뒤 이전 테이블을 삭제한다.
+-- DROP TABLE bookmark_folder_old;
@@ -0,0 +1,14 @@
+-- 운영 DB 에 한 번만 실행한다. (ddl-auto: none)
+-- 이전에는 가입 시 "해비터_" + 소셜 닉네임을 중복 확인 없이 저장했으므로 중복 닉네임이 있을 수 있다.
+-- 같은 닉네임 중 가장 먼저 가입한 회원만 닉네임을 유지하고, 나머지는 "_회원ID" 를 붙여 바꾼 뒤 유니크 인덱스를 만든다.
+
+UPDATE member m
+    JOIN (SELECT id, ROW_NUMBER() OVER (PARTITION BY nick_name ORDER BY id) AS nick_name_order
+          FROM member
+          WHERE nick_name IS NOT NULL) duplicated ON m.id = duplicated.id
+SET m.nick_name = CONCAT(m.nick_name, '_', m.id)
+WHERE duplicated.nick_name_order > 1;
+
+-- 바꾼 닉네임이 기존 닉네임과 다시 겹치면 아래 인덱스 생성이 실패한다. 해당 행을 수정한 뒤 다시 실행한다.
+ALTER TABLE member
+    ADD UNIQUE INDEX idx_member_nick_name (nick_name);
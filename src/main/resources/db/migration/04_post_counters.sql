@@ -0,0 +1,19 @@
+-- 운영 DB 에 한 번만 실행한다. (ddl-auto: none)
+-- 게시글 목록에서 읽는 댓글 수/이모지 수 컬럼을 추가하고, 기존 게시글의 값을 채운다.
+-- 댓글 수는 답글을 포함한 삭제되지 않은 댓글 수, 이모지 수는 게시글(POST)에 남긴 삭제되지 않은 이모지 수이다.
+-- 이전 서버는 두 컬럼을 갱신하지 않으므로, 이전 서버가 트래픽을 받지 않는 배포 시점에 실행한 뒤 새 서버를 띄운다.
+
+ALTER TABLE post
+    ADD COLUMN comment_count int NOT NULL DEFAULT 0,
+    ADD COLUMN emoji_count   int NOT NULL DEFAULT 0;
+
+UPDATE post p
+SET p.comment_count = (SELECT COUNT(*)
+                       FROM comment c
+                       WHERE c.post_id = p.id
+                         AND c.deleted = false),
+    p.emoji_count   = (SELECT COUNT(*)
+                       FROM emoji e
+                       WHERE e.domain = 'POST'
+                         AND e.domain_id = p.id
+                         AND e.deleted = false);
@@ -0,0 +1,5 @@
+-- 운영 DB 에 한 번만 실행한다. (ddl-auto: none)
+-- 습관별 월간 체크 조회(habit_id, created_date 범위)가 습관의 전체 체크 기록을 읽지 않도록 인덱스를 추가한다.
+
+ALTER TABLE habit_check
+    ADD INDEX idx_habit_check_habit_id_created_date (habit_id, created_date);
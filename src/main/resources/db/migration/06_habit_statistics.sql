@@ -0,0 +1,42 @@
+-- 운영 DB 에 한 번만 실행한다. (ddl-auto: none)
+-- 습관 통계 컬럼을 추가하고, 기존 습관의 통계를 체크 이력으로 한 번에 계산한다. (HabitStatistics.recalculate 와 같은 규칙)
+-- 이전 서버는 체크 시 통계를 갱신하지 않으므로, 이전 서버가 트래픽을 받지 않는 배포 시점에 실행한 뒤 새 서버를 띄운다.
+
+ALTER TABLE habbit
+    ADD COLUMN current_streak          int  NOT NULL DEFAULT 0,
+    ADD COLUMN previous_longest_streak int  NOT NULL DEFAULT 0,
+    ADD COLUMN last_check_date         date NULL,
+    ADD COLUMN monthly_check_count     int  NOT NULL DEFAULT 0,
+    ADD COLUMN check_month             date NULL;
+
+-- 이번 달은 서비스 기준 시간대(Asia/Seoul)로 계산한다.
+SET time_zone = '+09:00';
+
+-- 체크 날짜에서 날짜 순번만큼 뺀 값이 같으면 하루도 끊기지 않은 연속 기록이다.
+-- 마지막 연속 기록이 current_streak, 나머지 중 가장 긴 기록이 previous_longest_streak 가 된다.
+UPDATE habbit h
+    JOIN (SELECT habit_id,
+                 MAX(CASE WHEN is_last THEN streak END)               AS current_streak,
+                 COALESCE(MAX(CASE WHEN NOT is_last THEN streak END), 0) AS previous_longest_streak,
+                 MAX(end_date)                                        AS last_check_date
+          FROM (SELECT habit_id,
+                       COUNT(*)                                                      AS streak,
+                       MAX(check_date)                                               AS end_date,
+                       MAX(check_date) = MAX(MAX(check_date)) OVER (PARTITION BY habit_id) AS is_last
+                FROM (SELECT habit_id,
+                             check_date,
+                             DATE_SUB(check_date, INTERVAL ROW_NUMBER() OVER (PARTITION BY habit_id ORDER BY check_date) DAY) AS streak_group
+                      FROM (SELECT DISTINCT habit_id, DATE(created_date) AS check_date
+                            FROM habit_check
+                            WHERE habit_id IS NOT NULL) check_dates) grouped
+                GROUP BY habit_id, streak_group) streaks
+          GROUP BY habit_id) statistics ON h.id = statistics.habit_id
+    LEFT JOIN (SELECT habit_id, COUNT(DISTINCT DATE(created_date)) AS monthly_check_count
+               FROM habit_check
+               WHERE created_date >= CURDATE() - INTERVAL (DAYOFMONTH(CURDATE()) - 1) DAY
+               GROUP BY habit_id) monthly ON h.id = monthly.habit_id
+SET h.current_streak          = statistics.current_streak,
+    h.previous_longest_streak = statistics.previous_longest_streak,
+    h.last_check_date         = statistics.last_check_date,
+    h.monthly_check_count     = COALESCE(monthly.monthly_check_count, 0),
+    h.check_month             = CURDATE() - INTERVAL (DAYOFMONTH(CURDATE()) - 1) DAY;
@@ -0,0 +1,75 @@
+-- 운영 DB 에 한 번만 실행한다. (ddl-auto: none)
+-- 이전에는 같은 소셜 계정으로 동시에 처음 로그인하면 회원이 두 번 가입될 수 있었다.
+-- 같은 (provider, oauth_id) 중 가장 먼저 가입한 회원만 남기고, 나머지 회원의 데이터를 옮긴 뒤 삭제하고 유니크 인덱스를 만든다.
+-- post.emoji_count 를 사용하므로 04_post_counters.sql 이후에, 새 로그인 코드를 배포하기 전에 실행한다.
+
+CREATE TEMPORARY TABLE member_merge
+(
+    duplicate_id bigint primary key,
+    keep_id      bigint not null
+);
+
+INSERT INTO member_merge (duplicate_id, keep_id)
+SELECT m.id, kept.keep_id
+FROM member m
+         JOIN (SELECT provider, oauth_id, MIN(id) AS keep_id
+               FROM member
+               WHERE oauth_id IS NOT NULL
+               GROUP BY provider, oauth_id
+               HAVING COUNT(*) > 1) kept ON m.provider = kept.provider AND m.oauth_id = kept.oauth_id
+WHERE m.id <> kept.keep_id;
+
+UPDATE diary d JOIN member_merge mm ON d.member_id = mm.duplicate_id
+SET d.member_id = mm.keep_id;
+
+UPDATE habbit h JOIN member_merge mm ON h.member_id = mm.duplicate_id
+SET h.member_id = mm.keep_id;
+
+UPDATE post p JOIN member_merge mm ON p.member_id = mm.duplicate_id
+SET p.member_id = mm.keep_id;
+
+UPDATE comment c JOIN member_merge mm ON c.member_id = mm.duplicate_id
+SET c.member_id = mm.keep_id;
+
+UPDATE bookmark b JOIN member_merge mm ON b.member_id = mm.duplicate_id
+SET b.member_id = mm.keep_id;
+
+-- 남길 회원이 같은 글/댓글에 이미 이모지를 남겼다면 (domain, domain_id, member_id) 유니크 인덱스에 막혀 옮겨지지 않는다.
+-- 옮겨지지 않은 이모지는 삭제하고, 해당 게시글의 이모지 수(post.emoji_count)를 다시 계산한다.
+UPDATE IGNORE emoji e JOIN member_merge mm ON e.member_id = mm.duplicate_id
+SET e.member_id = mm.keep_id;
+
+CREATE TEMPORARY TABLE emoji_count_post
+(
+    post_id bigint primary key
+);
+
+INSERT IGNORE INTO emoji_count_post (post_id)
+SELECT e.domain_id
+FROM emoji e
+         JOIN member_merge mm ON e.member_id = mm.duplicate_id
+WHERE e.domain = 'POST';
+
+DELETE e
+FROM emoji e
+         JOIN member_merge mm ON e.member_id = mm.duplicate_id;
+
+UPDATE post p JOIN emoji_count_post ecp ON p.id = ecp.post_id
+SET p.emoji_count = (SELECT COUNT(*)
+                     FROM emoji e
+                     WHERE e.domain = 'POST'
+                       AND e.domain_id = p.id
+                       AND e.deleted = false);
+
+DROP TEMPORARY TABLE emoji_count_post;
+
+DELETE m
+FROM member m
+         JOIN member_merge mm ON m.id = mm.duplicate_id;
+
+DROP TEMPORARY TABLE member_merge;
+
+ALTER TABLE member
+    ADD UNIQUE INDEX idx_member_provider_oauth_id (provider, oauth_id);
+
+-- 삭제한 이모지를 종류별 집계(emoji_count)에 반영하도록 01_emoji_count_backfill.sql 을 다시 실행한다.
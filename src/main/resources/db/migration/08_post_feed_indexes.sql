@@ -0,0 +1,6 @@
+-- 운영 DB 에 한 번만 실행한다. (ddl-auto: none)
+-- 게시글 피드의 커서 페이지 조회((created_date, id) 역순)가 정렬 없이 인덱스를 따라 읽도록 인덱스를 추가한다.
+
+ALTER TABLE post
+    ADD INDEX idx_post_feed (deleted, category, created_date, id),
+    ADD INDEX idx_post_feed_all (deleted, created_date, id);
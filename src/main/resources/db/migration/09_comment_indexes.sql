@@ -0,0 +1,6 @@
+-- 운영 DB 에 한 번만 실행한다. (ddl-auto: none)
+-- 게시글의 최상위 댓글 페이지 조회와 부모 댓글별 답글 조회가 comment 테이블 전체를 읽지 않도록 인덱스를 추가한다.
+
+ALTER TABLE comment
+    ADD INDEX idx_comment_post (post_id, parent_id, deleted),
+    ADD INDEX idx_comment_parent (parent_id, deleted);
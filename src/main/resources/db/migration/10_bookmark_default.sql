@@ -0,0 +1,16 @@
+-- 운영 DB 에 한 번만 실행한다. (ddl-auto: none)
+-- 기본 북마크를 제목('기본') 대신 default_member_id 로 구분한다. 기본 북마크만 회원 아이디를 갖고 나머지는 null 이므로,
+-- 유니크 인덱스가 회원당 기본 북마크를 하나로 제한한다. (MySQL 은 유니크 인덱스에서 null 중복을 허용한다)
+
+ALTER TABLE bookmark
+    ADD COLUMN default_member_id bigint NULL,
+    ADD UNIQUE INDEX idx_bookmark_default (default_member_id);
+
+-- 서버가 만든 기본 북마크(제목과 설명이 기본값) 중 회원별로 가장 먼저 만들어진 것을 기본 북마크로 지정한다.
+UPDATE bookmark b
+    JOIN (SELECT member_id, MIN(id) AS id
+          FROM bookmark
+          WHERE title = '기본'
+            AND description = '기본값으로 제공되는 북마크입니다.'
+          GROUP BY member_id) default_bookmark ON b.id = default_bookmark.id
+SET b.default_member_id = b.member_id;
@@ -0,0 +1,5 @@
+-- 운영 DB 에 한 번만 실행한다. (ddl-auto: none)
+-- 게시글 목록의 북마크 여부 조회와 회원의 폴더 목록 조회가 bookmark 테이블 전체를 읽지 않도록 인덱스를 추가한다.
+
+ALTER TABLE bookmark
+    ADD INDEX idx_bookmark_member (member_id);
@@ -0,0 +1,14 @@
+-- 운영 DB 에 한 번만 실행한다. (ddl-auto: none)
+-- 회고록 잠금 컬럼과 잠금 작업(DiaryLockJob)이 사용하는 (locked, end_update_date) 인덱스를 추가하고,
+-- 이미 수정 마감이 지난 회고록을 잠근다.
+
+ALTER TABLE diary
+    ADD COLUMN locked boolean NOT NULL DEFAULT false,
+    ADD INDEX idx_diary_lock (locked, end_update_date);
+
+-- end_update_date 는 서비스 기준 시간대(Asia/Seoul)로 저장된다.
+SET time_zone = '+09:00';
+
+UPDATE diary
+SET locked = true
+WHERE end_update_date <= NOW();
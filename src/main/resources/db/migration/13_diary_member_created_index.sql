@@ -0,0 +1,6 @@
+-- 운영 DB 에 한 번만 실행한다. (ddl-auto: none)
+-- 월별 회고록 목록이 행을 읽지 않고 인덱스만으로 조회되도록 커버링 인덱스를 추가한다.
+-- locked 컬럼을 포함하므로 12_diary_lock.sql 이후에 실행한다.
+
+ALTER TABLE diary
+    ADD INDEX idx_diary_member_created (member_id, created_date, end_update_date, content, locked);
@@ -4,6 +4,7 @@
 
 DROP TABLE IF EXISTS bookmark_folder;
 DROP TABLE IF EXISTS bookmark;
+DROP TABLE IF EXISTS emoji_count;
 DROP TABLE IF EXISTS emoji;
 DROP TABLE IF EXISTS comment;
 DROP TABLE IF EXISTS post;
@@ -23,7 +24,9 @@ create table member
     provider        varchar(255) null,
     created_date    datetime(6)  null     default CURRENT_TIMESTAMP(6),
     updated_date    datetime(6)  null     default CURRENT_TIMESTAMP(6),
-    deleted         boolean      not null default false
+    deleted         boolean      not null default false,
+    unique index idx_member_nick_name (nick_name),
+    unique index idx_member_provider_oauth_id (provider, oauth_id)
 );
 
 create table diary
@@ -31,10 +34,13 @@ create table diary
     id              bigint auto_increment primary key,
     content         varchar(255) null,
     end_update_date datetime(6)  null,
+    locked          boolean      not null default false,
     member_id       bigint       null,
     created_date    datetime(6)  null     default CURRENT_TIMESTAMP(6),
     updated_date    datetime(6)  null     default CURRENT_TIMESTAMP(6),
     deleted         bit          not null default false,
+    index idx_diary_member_created (member_id, created_date, end_update_date, content, locked),
+    index idx_diary_lock (locked, end_update_date),
     constraint FKbyluyva0mxnf5jitf297oxlxd
         foreign key (member_id) references member (id)
 );
@@ -42,11 +48,16 @@ create table diary
 create table habbit
 (
     id           bigint auto_increment primary key,
-    content      varchar(255) null,
-    member_id    bigint       null,
-    created_date datetime(6)  null     default CURRENT_TIMESTAMP(6),
-    updated_date datetime(6)  null     default CURRENT_TIMESTAMP(6),
-    deleted      bit          not null default false,
+    content                 varchar(255) null,
+    member_id               bigint       null,
+    current_streak          int          not null default 0,
+    previous_longest_streak int          not null default 0,
+    last_check_date         date         null,
+    monthly_check_count     int          not null default 0,
+    check_month             date         null,
+    created_date            datetime(6)  null     default CURRENT_TIMESTAMP(6),
+    updated_date            datetime(6)  null     default CURRENT_TIMESTAMP(6),
+    deleted                 bit          not null default false,
     constraint FK2tlodega5v0fas0uv1ksxu8ci
         foreign key (member_id) references member (id)
 );
@@ -60,7 +71,9 @@ create table habit_check
     updated_date datetime(6) null     default CURRENT_TIMESTAMP(6),
     deleted      bit         not null default false,
     constraint FK6exrsx5hm05v3ur6c3ttiqopd
-        foreign key (habit_id) references habbit (id)
+        foreign key (habit_id) references habbit (id),
+
+    index idx_habit_check_habit_id_created_date (habit_id, created_date)
 );
 
 create table post
@@ -71,11 +84,15 @@ create table post
     thumbnail_url varchar(255) null,
     category      varchar(255) not null,
     views         bigint       not null default 0,
+    comment_count int          not null default 0,
+    emoji_count   int          not null default 0,
     member_id     bigint       null,
     created_date  datetime(6)  not null default CURRENT_TIMESTAMP(6),
     updated_date  datetime(6)  not null default CURRENT_TIMESTAMP(6),
     deleted       boolean      not null default false,
 
+    index idx_post_feed (deleted, category, created_date, id),
+    index idx_post_feed_all (deleted, created_date, id),
     FULLTEXT INDEX post_title (title) WITH PARSER ngram,
     FULLTEXT INDEX post_content (content) WITH PARSER ngram
 );
@@ -89,7 +106,10 @@ create table comment
     parent_id    bigint       null,
     created_date datetime(6)  not null default CURRENT_TIMESTAMP(6),
     updated_date datetime(6)  not null default CURRENT_TIMESTAMP(6),
-    deleted      boolean      not null default false
+    deleted      boolean      not null default false,
+
+    index idx_comment_post (post_id, parent_id, deleted),
+    index idx_comment_parent (parent_id, deleted)
 );
 
 create table emoji
@@ -108,19 +128,37 @@ create table emoji
     index idx_emoji_member_id (member_id)
 );
 
+create table emoji_count
+(
+    id        bigint auto_increment primary key,
+    domain    varchar(30) not null,
+    domain_id bigint      not null,
+    type      varchar(30) not null,
+    count     bigint      not null default 0,
+
+    unique index idx_emoji_count_unique (domain, domain_id, type)
+);
+
 create table bookmark
 (
     id           bigint auto_increment primary key,
     title        varchar(255) not null,
     description  varchar(500) not null,
-    member_id    bigint       not null,
+    member_id         bigint       not null,
+    default_member_id bigint       null,
     created_date datetime(6)  not null default CURRENT_TIMESTAMP(6),
     updated_date datetime(6)  not null default CURRENT_TIMESTAMP(6),
-    deleted      boolean      not null default false
+    deleted      boolean      not null default false,
+
+    index idx_bookmark_member (member_id),
+    unique index idx_bookmark_default (default_member_id)
 );
 
 create table bookmark_folder
 (
+    id          bigint auto_increment primary key,
     bookmark_id bigint not null,
-    posts_id    bigint null
+    post_id     bigint not null,
+
+    unique index idx_bookmark_folder_unique (bookmark_id, post_id)
 );
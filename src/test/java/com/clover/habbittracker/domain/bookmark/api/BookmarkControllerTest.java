@@ -18,6 +18,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import com.clover.habbittracker.base.RestDocsSupport;
 import com.clover.habbittracker.domain.bookmark.dto.CreateBookmarkRequest;
 import com.clover.habbittracker.domain.bookmark.entity.Bookmark;
+import com.clover.habbittracker.domain.bookmark.entity.BookmarkPost;
+import com.clover.habbittracker.domain.bookmark.repository.BookmarkPostRepository;
 import com.clover.habbittracker.domain.bookmark.repository.BookmarkRepository;
 import com.clover.habbittracker.domain.post.entity.Post;
 import com.clover.habbittracker.domain.post.repository.PostRepository;
@@ -32,6 +34,9 @@ class BookmarkControllerTest extends RestDocsSupport {
 	@Autowired
 	private BookmarkRepository bookmarkRepository;
 
+	@Autowired
+	private BookmarkPostRepository bookmarkPostRepository;
+
 	private Post savedPost;
 
 	private Bookmark saveBookmark;
@@ -41,8 +46,8 @@ class BookmarkControllerTest extends RestDocsSupport {
 		savedPost = postRepository.save(createTestPost(savedMember));
 
 		Bookmark bookmark = new Bookmark(savedMember, "테스트입니다.", "테스트용입니다.");
-		bookmark.addPost(savedPost);
 		saveBookmark = bookmarkRepository.save(bookmark);
+		bookmarkPostRepository.save(new BookmarkPost(saveBookmark, savedPost));
 	}
 
 	@Test
@@ -103,20 +108,25 @@ class BookmarkControllerTest extends RestDocsSupport {
 	void getAllBookmarks() throws Exception {
 		//given
 		Bookmark bookmark = new Bookmark(savedMember, "조회 테스트입니다.", "조회 테스트용입니다.");
-		bookmark.addPost(savedPost);
 		bookmarkRepository.save(bookmark);
+		bookmarkPostRepository.saveAndFlush(new BookmarkPost(bookmark, savedPost));
 
 		//when then
 		mockMvc.perform(
 				get("/bookmarks")
 					.header("Authorization", "Bearer " + accessToken)
+					.queryParam("size", "5")
 					.contentType(APPLICATION_JSON))
 			.andExpect(status().isOk())
+			.andExpect(jsonPath("$[0].posts[0].id").value(savedPost.getId()))
 			// restDocs 설정.
 			.andDo(restDocs.document(
 				requestHeaders(
 					headerWithName("Authorization").description("JWT Access 토큰")
 				),
+				queryParameters(
+					parameterWithName("size").description("폴더별 게시글 수 (기본값 5, 최대 100)").optional()
+				),
 				responseFields(
 					fieldWithPath("[].id").type(NUMBER).description("북마크 아이디"),
 					fieldWithPath("[].title").type(STRING).description("북마크 제목"),
@@ -136,8 +146,11 @@ class BookmarkControllerTest extends RestDocsSupport {
 		mockMvc.perform(
 				get("/bookmarks/{bookmarkId}", saveBookmark.getId())
 					.header("Authorization", "Bearer " + accessToken)
+					.queryParam("page", "0")
+					.queryParam("size", "20")
 					.contentType(APPLICATION_JSON))
 			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.posts[0].id").value(savedPost.getId()))
 			// restDocs 설정.
 			.andDo(restDocs.document(
 				requestHeaders(
@@ -146,6 +159,10 @@ class BookmarkControllerTest extends RestDocsSupport {
 				pathParameters(
 					parameterWithName("bookmarkId").description("조회할 북마크 아이디")
 				),
+				queryParameters(
+					parameterWithName("page").description("게시글 페이지 번호 (0부터 시작)").optional(),
+					parameterWithName("size").description("게시글 페이지 크기 (기본값 20, 최대 100)").optional()
+				),
 				responseFields(
 					fieldWithPath("id").type(NUMBER).description("북마크 아이디"),
 					fieldWithPath("title").type(STRING).description("북마크 제목"),
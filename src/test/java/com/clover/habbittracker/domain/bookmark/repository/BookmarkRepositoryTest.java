@@ -5,6 +5,7 @@ import static com.clover.habbittracker.util.PostProvider.*;
 import static org.assertj.core.api.Assertions.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,10 +15,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 
 import com.clover.habbittracker.domain.bookmark.entity.Bookmark;
+import com.clover.habbittracker.domain.bookmark.entity.BookmarkPost;
 import com.clover.habbittracker.domain.member.entity.Member;
 import com.clover.habbittracker.domain.member.repository.MemberRepository;
+import com.clover.habbittracker.domain.post.dto.PostSimpleResponse;
 import com.clover.habbittracker.domain.post.entity.Post;
 import com.clover.habbittracker.domain.post.repository.PostRepository;
 import com.clover.habbittracker.global.config.db.JpaConfig;
@@ -36,6 +40,9 @@ class BookmarkRepositoryTest {
 	@Autowired
 	private BookmarkRepository bookmarkRepository;
 
+	@Autowired
+	private BookmarkPostRepository bookmarkPostRepository;
+
 	private Member savedMember;
 
 	private Post savedPost;
@@ -49,8 +56,8 @@ class BookmarkRepositoryTest {
 		savedPost = postRepository.save(createTestPost(savedMember));
 
 		Bookmark bookmark = new Bookmark(savedMember, "테스트입니다.", "테스트용입니다.");
-		bookmark.addPost(savedPost);
 		saveBookmark = bookmarkRepository.save(bookmark);
+		bookmarkPostRepository.save(new BookmarkPost(saveBookmark, savedPost));
 	}
 
 	@Test
@@ -88,6 +95,74 @@ class BookmarkRepositoryTest {
 			= bookmarkRepository.findByIdAndMemberId(saveBookmark.getId(), savedMember.getId());
 
 		assertThat(byIdAndMemberId).isNotPresent();
+		assertThat(bookmarkRepository.findPostsInBookmark(saveBookmark.getId(), PageRequest.of(0, 10))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("[성공] 이미 담긴 게시글은 북마크에 중복으로 추가되지 않는다")
+	void insertBookmarkPost() {
+		//given
+		Post savedPost2 = postRepository.save(createTestPost(savedMember));
+
+		//when
+		int inserted = bookmarkPostRepository.insert(saveBookmark.getId(), savedPost2.getId());
+		bookmarkPostRepository.insert(saveBookmark.getId(), savedPost2.getId());
+		bookmarkPostRepository.insert(saveBookmark.getId(), savedPost.getId());
+
+		//then
+		assertThat(inserted).isEqualTo(1);
+		assertThat(bookmarkRepository.findPostsInBookmark(saveBookmark.getId(), PageRequest.of(0, 10)))
+			.extracting(PostSimpleResponse::getId)
+			.containsExactly(savedPost2.getId(), savedPost.getId());
+	}
+
+	@Test
+	@DisplayName("[성공] 북마크 아이디와 게시글 아이디로 북마크 게시글 삭제")
+	void deleteBookmarkPost() {
+		//when
+		int deleted = bookmarkPostRepository.delete(saveBookmark.getId(), savedPost.getId());
+
+		//then
+		assertThat(deleted).isEqualTo(1);
+		assertThat(bookmarkRepository.findPostsInBookmark(saveBookmark.getId(), PageRequest.of(0, 10))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("[성공] 북마크 아이디 목록으로 폴더별 게시글 요약 조회")
+	void findPostsInBookmarks() {
+		//given
+		Post savedPost2 = postRepository.save(createTestPost(savedMember));
+		Bookmark bookmark = new Bookmark(savedMember, "테스트2입니다.", "테스트용2입니다.");
+		Bookmark saveBookmark2 = bookmarkRepository.save(bookmark);
+		bookmarkPostRepository.save(new BookmarkPost(saveBookmark2, savedPost));
+		bookmarkPostRepository.saveAndFlush(new BookmarkPost(saveBookmark2, savedPost2));
+
+		//when
+		Map<Long, List<PostSimpleResponse>> posts
+			= bookmarkRepository.findPostsInBookmarks(List.of(saveBookmark.getId(), saveBookmark2.getId()), 1);
+
+		//then
+		assertThat(posts.get(saveBookmark.getId())).extracting(PostSimpleResponse::getId)
+			.containsExactly(savedPost.getId());
+		assertThat(posts.get(saveBookmark2.getId())).extracting(PostSimpleResponse::getId)
+			.containsExactly(savedPost2.getId());
+		assertThat(posts.get(saveBookmark2.getId()).get(0).getTitle()).isEqualTo(savedPost2.getTitle());
+	}
+
+	@Test
+	@DisplayName("[성공] 북마크 아이디로 게시글 요약 페이지 조회")
+	void findPostsInBookmark() {
+		//given
+		Post savedPost2 = postRepository.save(createTestPost(savedMember));
+		bookmarkPostRepository.saveAndFlush(new BookmarkPost(saveBookmark, savedPost2));
+
+		//when
+		List<PostSimpleResponse> firstPage = bookmarkRepository.findPostsInBookmark(saveBookmark.getId(), PageRequest.of(0, 1));
+		List<PostSimpleResponse> secondPage = bookmarkRepository.findPostsInBookmark(saveBookmark.getId(), PageRequest.of(1, 1));
+
+		//then
+		assertThat(firstPage).extracting(PostSimpleResponse::getId).containsExactly(savedPost2.getId());
+		assertThat(secondPage).extracting(PostSimpleResponse::getId).containsExactly(savedPost.getId());
 	}
 
 }
\ No newline at end of file
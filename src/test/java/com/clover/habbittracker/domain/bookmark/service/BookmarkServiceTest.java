@@ -12,14 +12,18 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.clover.habbittracker.domain.bookmark.dto.BookmarkResponse;
 import com.clover.habbittracker.domain.bookmark.dto.CreateBookmarkRequest;
 import com.clover.habbittracker.domain.bookmark.entity.Bookmark;
+import com.clover.habbittracker.domain.bookmark.entity.BookmarkPost;
+import com.clover.habbittracker.domain.bookmark.repository.BookmarkPostRepository;
 import com.clover.habbittracker.domain.bookmark.repository.BookmarkRepository;
 import com.clover.habbittracker.domain.member.entity.Member;
 import com.clover.habbittracker.domain.member.repository.MemberRepository;
+import com.clover.habbittracker.domain.post.dto.PostSimpleResponse;
 import com.clover.habbittracker.domain.post.entity.Post;
 import com.clover.habbittracker.domain.post.repository.PostRepository;
 
@@ -39,6 +43,9 @@ class BookmarkServiceTest {
 	@Autowired
 	private BookmarkRepository bookmarkRepository;
 
+	@Autowired
+	private BookmarkPostRepository bookmarkPostRepository;
+
 	private Member savedMember;
 
 	private Post savedPost;
@@ -72,17 +79,81 @@ class BookmarkServiceTest {
 	void addPost() {
 		// given
 		Bookmark bookmark = new Bookmark(savedMember, "테스트입니다.", "테스트용입니다.");
-		bookmark.addPost(savedPost);
 		Bookmark saveBookmark = bookmarkRepository.save(bookmark);
+		bookmarkPostRepository.save(new BookmarkPost(saveBookmark, savedPost));
 
 		// when
 		bookmarkService.addPost(saveBookmark.getId(), savedMember.getId(), savedPost.getId());
 
 		// then
-		Optional<Bookmark> savedBookmark = bookmarkRepository.findById(saveBookmark.getId());
-		assertThat(savedBookmark).isPresent();
-		assertThat(savedBookmark.get().getPosts()).hasSize(1);
-		assertThat(savedBookmark.get().getPosts()).contains(savedPost);
+		List<PostSimpleResponse> posts = bookmarkRepository.findPostsInBookmark(saveBookmark.getId(), PageRequest.of(0, 20));
+		assertThat(posts).extracting(PostSimpleResponse::getId).containsExactly(savedPost.getId());
+	}
+
+	@Test
+	@DisplayName("[성공] 존재하지 않는 북마크에 추가하면 기본 북마크 하나에만 추가된다")
+	void addPostToDefaultBookmark() {
+		// given
+		Post otherPost = postRepository.save(createTestPost(savedMember));
+
+		// when
+		bookmarkService.addPost(-1L, savedMember.getId(), savedPost.getId());
+		bookmarkService.addPost(-2L, savedMember.getId(), otherPost.getId());
+
+		// then
+		List<Bookmark> bookmarks = bookmarkRepository.findByMemberId(savedMember.getId());
+		assertThat(bookmarks).extracting(Bookmark::getTitle).containsExactly(Bookmark.DEFAULT_TITLE);
+		assertThat(bookmarkRepository.findPostsInBookmark(bookmarks.get(0).getId(), PageRequest.of(0, 20)))
+			.extracting(PostSimpleResponse::getId)
+			.containsExactlyInAnyOrder(savedPost.getId(), otherPost.getId());
+	}
+
+	@Test
+	@DisplayName("[성공] 회원이 만든 '기본' 이름의 북마크는 기본 북마크로 사용되지 않는다")
+	void addPostToDefaultBookmarkWithSameTitleFolder() {
+		// given
+		Bookmark userFolder = bookmarkRepository.save(
+			new Bookmark(savedMember, Bookmark.DEFAULT_TITLE, "회원이 만든 북마크입니다."));
+
+		// when
+		bookmarkService.addPost(-1L, savedMember.getId(), savedPost.getId());
+
+		// then
+		Bookmark defaultBookmark = bookmarkRepository.findDefaultByMemberId(savedMember.getId()).orElseThrow();
+		assertThat(defaultBookmark.getId()).isNotEqualTo(userFolder.getId());
+		assertThat(bookmarkRepository.findPostsInBookmark(userFolder.getId(), PageRequest.of(0, 20))).isEmpty();
+		assertThat(bookmarkRepository.findPostsInBookmark(defaultBookmark.getId(), PageRequest.of(0, 20)))
+			.extracting(PostSimpleResponse::getId)
+			.containsExactly(savedPost.getId());
+	}
+
+	@Test
+	@DisplayName("[실패] 다른 회원의 북마크에는 게시글을 추가할 수 없다")
+	void addPostToOthersBookmark() {
+		// given
+		Member other = memberRepository.save(Member.builder()
+			.email("other@email.com")
+			.oauthId("otherOauthId")
+			.provider("testProvider")
+			.nickName("otherNickName")
+			.build());
+		Bookmark othersBookmark = bookmarkRepository.save(new Bookmark(other, "테스트입니다.", "테스트용입니다."));
+
+		// when then
+		assertThatThrownBy(() -> bookmarkService.addPost(othersBookmark.getId(), savedMember.getId(), savedPost.getId()))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThat(bookmarkRepository.findByMemberId(savedMember.getId())).isEmpty();
+	}
+
+	@Test
+	@DisplayName("[실패] 존재하지 않는 게시글은 북마크에 추가할 수 없다")
+	void addNotExistPost() {
+		// given
+		Bookmark saveBookmark = bookmarkRepository.save(new Bookmark(savedMember, "테스트입니다.", "테스트용입니다."));
+
+		// when then
+		assertThatThrownBy(() -> bookmarkService.addPost(saveBookmark.getId(), savedMember.getId(), savedPost.getId() + 1))
+			.isInstanceOf(IllegalArgumentException.class);
 	}
 
 	@Test
@@ -91,17 +162,45 @@ class BookmarkServiceTest {
 		// given
 		Bookmark bookmark = new Bookmark(savedMember, "테스트입니다.", "테스트용입니다.");
 		Bookmark bookmark2 = new Bookmark(savedMember, "테스트2입니다.", "테스트용2입니다.");
-		bookmark.addPost(savedPost);
 		bookmarkRepository.save(bookmark);
 		bookmarkRepository.save(bookmark2);
+		bookmarkPostRepository.saveAndFlush(new BookmarkPost(bookmark, savedPost));
 
 		// when
-		List<BookmarkResponse> allBookmarks = bookmarkService.getAllBookmarks(savedMember.getId());
+		List<BookmarkResponse> allBookmarks = bookmarkService.getAllBookmarks(savedMember.getId(), 5);
 
 		// then
 		assertThat(allBookmarks).hasSize(2);
 		assertThat(allBookmarks.get(0).title()).isEqualTo(bookmark.getTitle());
 		assertThat(allBookmarks.get(1).description()).isEqualTo(bookmark2.getDescription());
+		assertThat(allBookmarks.get(0).posts()).extracting(PostSimpleResponse::getId).containsExactly(savedPost.getId());
+		assertThat(allBookmarks.get(1).posts()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("[성공] 북마크 전체 목록 조회 시 폴더별 게시글은 요청한 개수만큼만 조회된다")
+	void getAllBookmarksWithPostSize() {
+		// given
+		Post savedPost2 = postRepository.save(createTestPost(savedMember));
+		Post savedPost3 = postRepository.save(createTestPost(savedMember));
+		Bookmark bookmark = new Bookmark(savedMember, "테스트입니다.", "테스트용입니다.");
+		Bookmark bookmark2 = new Bookmark(savedMember, "테스트2입니다.", "테스트용2입니다.");
+		bookmarkRepository.save(bookmark);
+		bookmarkRepository.save(bookmark2);
+		bookmarkPostRepository.save(new BookmarkPost(bookmark, savedPost));
+		bookmarkPostRepository.save(new BookmarkPost(bookmark, savedPost2));
+		bookmarkPostRepository.save(new BookmarkPost(bookmark, savedPost3));
+		bookmarkPostRepository.saveAndFlush(new BookmarkPost(bookmark2, savedPost));
+
+		// when
+		List<BookmarkResponse> allBookmarks = bookmarkService.getAllBookmarks(savedMember.getId(), 2);
+
+		// then
+		assertThat(allBookmarks).hasSize(2);
+		assertThat(allBookmarks.get(0).posts()).extracting(PostSimpleResponse::getId)
+			.containsExactly(savedPost3.getId(), savedPost2.getId());
+		assertThat(allBookmarks.get(1).posts()).extracting(PostSimpleResponse::getId)
+			.containsExactly(savedPost.getId());
 	}
 
 	@Test
@@ -109,16 +208,18 @@ class BookmarkServiceTest {
 	void getBookmark() {
 		// given
 		Bookmark bookmark = new Bookmark(savedMember, "테스트입니다.", "테스트용입니다.");
-		bookmark.addPost(savedPost);
 		bookmarkRepository.save(bookmark);
+		bookmarkPostRepository.save(new BookmarkPost(bookmark, savedPost));
 
 		// when
-		BookmarkResponse savedBookmark = bookmarkService.getBookmark(bookmark.getId(), savedMember.getId());
+		BookmarkResponse savedBookmark = bookmarkService.getBookmark(bookmark.getId(), savedMember.getId(),
+			PageRequest.of(0, 20));
 
 		// then
 		assertThat(savedBookmark)
 			.hasFieldOrPropertyWithValue("title", bookmark.getTitle())
 			.hasFieldOrPropertyWithValue("description", bookmark.getDescription());
+		assertThat(savedBookmark.posts()).extracting(PostSimpleResponse::getId).containsExactly(savedPost.getId());
 	}
 
 	@Test
@@ -126,8 +227,8 @@ class BookmarkServiceTest {
 	void delete() { // soft delete 테스트 필요함
 		// given
 		Bookmark bookmark = new Bookmark(savedMember, "테스트입니다.", "테스트용입니다.");
-		bookmark.addPost(savedPost);
 		Bookmark saveBookmark = bookmarkRepository.save(bookmark);
+		bookmarkPostRepository.save(new BookmarkPost(saveBookmark, savedPost));
 
 		// when
 		bookmarkService.delete(saveBookmark.getId(), savedMember.getId());
@@ -142,9 +243,8 @@ class BookmarkServiceTest {
 	void deletePost() {
 		// given
 		Bookmark bookmark = new Bookmark(savedMember, "테스트입니다.", "테스트용입니다.");
-		bookmark.addPost(savedPost);
-
 		Bookmark saveBookmark = bookmarkRepository.save(bookmark);
+		bookmarkPostRepository.save(new BookmarkPost(saveBookmark, savedPost));
 
 		// when
 		bookmarkService.deletePost(bookmark.getId(), savedMember.getId(), savedPost.getId());
@@ -152,6 +252,6 @@ class BookmarkServiceTest {
 		// then
 		Optional<Bookmark> savedBookmark = bookmarkRepository.findById(saveBookmark.getId());
 		assertThat(savedBookmark).isPresent();
-		assertThat(savedBookmark.get().getPosts()).isEmpty();
+		assertThat(bookmarkRepository.findPostsInBookmark(saveBookmark.getId(), PageRequest.of(0, 10))).isEmpty();
 	}
 }
\ No newline at end of file
@@ -2,7 +2,6 @@ package com.clover.habbittracker.domain.comment.api;
 
 import static com.clover.habbittracker.global.restdocs.config.RestDocsConfig.*;
 import static com.clover.habbittracker.util.CommentProvider.*;
-import static com.clover.habbittracker.util.MemberProvider.*;
 import static com.clover.habbittracker.util.PostProvider.*;
 import static org.springframework.http.MediaType.*;
 import static org.springframework.restdocs.headers.HeaderDocumentation.*;
@@ -36,7 +35,12 @@ class CommentControllerTest extends RestDocsSupport {
 
 	@BeforeEach
 	void setUp() {
-		Member author = memberRepository.save(createTestMember());
+		Member author = memberRepository.save(Member.builder()
+			.email("author@email.com")
+			.oauthId("authorOauthId")
+			.provider("testProvider")
+			.nickName("authorNickName")
+			.build());
 		savePost = postRepository.save(createTestPost(author));
 	}
 
@@ -109,6 +113,86 @@ class CommentControllerTest extends RestDocsSupport {
 				)));
 	}
 
+	@Test
+	@DisplayName("사용자는 게시글의 댓글을 커서 기반으로 나눠서 조회 할 수 있다.")
+	void getCommentListByCursorTest() throws Exception {
+		//given
+		Comment firstComment = commentRepository.save(createTestComment(savedMember, savePost));
+		commentRepository.save(createTestComment(savedMember, savePost));
+
+		//when then
+		mockMvc.perform(RestDocumentationRequestBuilders
+				.get("/posts/{postId}/comments", savePost.getId())
+				.header("Authorization", "Bearer " + accessToken)
+				.queryParam("cursor", "")
+				.queryParam("size", "1"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.comments[0].id").value(firstComment.getId()))
+			.andExpect(jsonPath("$.data.hasNext").value(true))
+			.andExpect(jsonPath("$.data.nextCursor").value(firstComment.getId()))
+			.andDo(restDocs.document(
+				requestHeaders(
+					headerWithName("Authorization").description("JWT Access 토큰")
+				),
+				pathParameters(
+					parameterWithName("postId").description("게시글 id")
+				),
+				queryParameters(
+					parameterWithName("cursor").description("이전 페이지의 nextCursor (첫 페이지는 빈 값)"),
+					parameterWithName("size").description("페이지 크기 (기본값 20, 최대 100)")
+				),
+				responseFields(
+					beneathPath("data").withSubsectionId("data"),
+					fieldWithPath("comments[].id").type(NUMBER).description("댓글 아이디"),
+					fieldWithPath("comments[].content").type(STRING).description("댓글 내용"),
+					fieldWithPath("comments[].authorId").type(NUMBER).description("댓글 작성자"),
+					fieldWithPath("comments[].emojis[]").type(ARRAY).description("댓글의 이모지"),
+					fieldWithPath("comments[].createDate").type(STRING).description("댓글 생성 날짜"),
+					fieldWithPath("comments[].updateDate").type(STRING).description("댓글 최근 수정 날짜"),
+					fieldWithPath("hasNext").type(BOOLEAN).description("다음 페이지 존재 여부"),
+					fieldWithPath("nextCursor").type(NUMBER).optional().description("다음 페이지 커서 (마지막 페이지면 null)")
+				)));
+	}
+
+	@Test
+	@DisplayName("사용자는 게시글의 댓글을 답글과 함께 조회 할 수 있다.")
+	void getCommentThreadTest() throws Exception {
+		//given
+		Comment savedComment = commentRepository.save(createTestComment(savedMember, savePost));
+		commentRepository.save(createTestReply(savedMember, savePost, savedComment));
+
+		//when then
+		mockMvc.perform(RestDocumentationRequestBuilders
+				.get("/posts/{postId}/comments/thread", savePost.getId())
+				.header("Authorization", "Bearer " + accessToken)
+				.queryParam("page", "0")
+				.queryParam("size", "20"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data[0].id").value(savedComment.getId()))
+			.andExpect(jsonPath("$.data[0].replies[0].content").exists())
+			.andDo(restDocs.document(
+				requestHeaders(
+					headerWithName("Authorization").description("JWT Access 토큰")
+				),
+				pathParameters(
+					parameterWithName("postId").description("게시글 id")
+				),
+				queryParameters(
+					parameterWithName("page").description("루트 댓글 페이지 번호 (0부터 시작)"),
+					parameterWithName("size").description("페이지 당 루트 댓글 수 (기본값 20)")
+				),
+				responseFields(
+					beneathPath("data").withSubsectionId("data"),
+					fieldWithPath("id").type(NUMBER).description("댓글 아이디"),
+					fieldWithPath("content").type(STRING).description("댓글 내용"),
+					fieldWithPath("authorId").type(NUMBER).description("댓글 작성자"),
+					fieldWithPath("emojis[]").type(ARRAY).description("댓글의 이모지"),
+					fieldWithPath("createDate").type(STRING).description("댓글 생성 날짜"),
+					fieldWithPath("updateDate").type(STRING).description("댓글 최근 수정 날짜"),
+					subsectionWithPath("replies[]").type(ARRAY).description("댓글의 답글 (댓글과 같은 구조)")
+				)));
+	}
+
 	@Test
 	@DisplayName("사용자는 게시글의 댓글을 삭제 할 수 있다.")
 	void deleteCommentTest() throws Exception {
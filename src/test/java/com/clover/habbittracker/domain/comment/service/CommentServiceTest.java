@@ -1,6 +1,7 @@
 package com.clover.habbittracker.domain.comment.service;
 
 import static com.clover.habbittracker.util.CommentProvider.*;
+import static com.clover.habbittracker.util.EmojiProvider.*;
 import static com.clover.habbittracker.util.MemberProvider.*;
 import static com.clover.habbittracker.util.PostProvider.*;
 import static org.assertj.core.api.Assertions.*;
@@ -14,15 +15,20 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.clover.habbittracker.domain.comment.dto.CommentCursorResponse;
 import com.clover.habbittracker.domain.comment.dto.CommentRequest;
 import com.clover.habbittracker.domain.comment.dto.CommentResponse;
+import com.clover.habbittracker.domain.comment.dto.CommentThreadResponse;
 import com.clover.habbittracker.domain.comment.entity.Comment;
 import com.clover.habbittracker.domain.comment.repository.CommentRepository;
+import com.clover.habbittracker.domain.emoji.repository.EmojiRepository;
 import com.clover.habbittracker.domain.member.entity.Member;
 import com.clover.habbittracker.domain.member.exception.MemberNotFoundException;
 import com.clover.habbittracker.domain.member.repository.MemberRepository;
+import com.clover.habbittracker.domain.post.dto.PostResponse;
 import com.clover.habbittracker.domain.post.entity.Post;
 import com.clover.habbittracker.domain.post.exception.PostNotFoundException;
 import com.clover.habbittracker.domain.post.repository.PostRepository;
@@ -40,6 +46,8 @@ public class CommentServiceTest {
 	private MemberRepository memberRepository;
 	@Autowired
 	private CommentRepository commentRepository;
+	@Autowired
+	private EmojiRepository emojiRepository;
 
 	private Member testMember;
 
@@ -74,6 +82,25 @@ public class CommentServiceTest {
 		assertThat(saveComment.get().getContent()).isEqualTo(response.content());
 	}
 
+	@Test
+	@DisplayName("댓글과 대댓글을 등록하고 삭제하면 게시글의 댓글 수가 함께 변경된다.")
+	void commentCountTest() {
+		//given
+		CommentRequest request = new CommentRequest("testContent");
+
+		//when
+		CommentResponse response = commentService.createComment(memberId, postId, request);
+		commentService.createReply(memberId, response.id(), postId, request);
+		commentService.deleteComment(memberId, response.id(), postId);
+
+		//then
+		PostResponse postResponse = postRepository.findAllPostsSummary(PageRequest.of(0, 15), null).stream()
+			.filter(post -> post.id().equals(postId))
+			.findFirst()
+			.orElseThrow();
+		assertThat(postResponse.numOfComments()).isEqualTo(1);
+	}
+
 	@Test
 	@DisplayName("게시글의 댓글을 조회 할 수 있다")
 	void getCommentsTest() {
@@ -91,6 +118,27 @@ public class CommentServiceTest {
 		assertThat(response.authorId()).isEqualTo(savedComment.getMember().getId());
 	}
 
+	@Test
+	@DisplayName("게시글의 댓글을 조회 할 때, 댓글별 이모지를 함께 조회한다.")
+	void getCommentsWithEmojisTest() {
+		//given
+		Comment savedComment = commentRepository.save(createTestComment(testMember, testPost));
+		Comment otherComment = commentRepository.save(createTestComment(testMember, testPost));
+		emojiRepository.save(createTestEmojiInComment(testMember, savedComment));
+
+		//when
+		List<CommentResponse> comments = commentService.getCommentsOf(testPost.getId());
+
+		//then
+		assertThat(comments).hasSize(2);
+		assertThat(comments).filteredOn(comment -> comment.id().equals(savedComment.getId()))
+			.singleElement()
+			.satisfies(comment -> assertThat(comment.emojis()).hasSize(1));
+		assertThat(comments).filteredOn(comment -> comment.id().equals(otherComment.getId()))
+			.singleElement()
+			.satisfies(comment -> assertThat(comment.emojis()).isEmpty());
+	}
+
 	@Test
 	@DisplayName("게시글의 댓글을 조회 할 때, 대댓글은 조회 하지 않는다.")
 	void getCommentsWithOutReplyTest() {
@@ -107,6 +155,53 @@ public class CommentServiceTest {
 		assertThat(comments.size()).isEqualTo(1);
 	}
 
+	@Test
+	@DisplayName("게시글의 댓글과 답글을 커서 기반으로 나눠서 조회 할 수 있다.")
+	void getCommentsByCursorTest() {
+		//given
+		Comment firstComment = commentRepository.save(createTestComment(testMember, testPost));
+		Comment secondComment = commentRepository.save(createTestComment(testMember, testPost));
+		Comment firstReply = commentRepository.save(createTestReply(testMember, testPost, firstComment));
+		Comment secondReply = commentRepository.save(createTestReply(testMember, testPost, firstComment));
+
+		//when
+		CommentCursorResponse firstPage = commentService.getCommentsOf(postId, null, 1);
+		CommentCursorResponse lastPage = commentService.getCommentsOf(postId, firstPage.nextCursor(), 1);
+		CommentCursorResponse replies = commentService.getReplyList(firstComment.getId(), postId, firstReply.getId(), 10);
+
+		//then
+		assertThat(firstPage.comments()).extracting(CommentResponse::id).containsExactly(firstComment.getId());
+		assertThat(firstPage.hasNext()).isTrue();
+		assertThat(lastPage.comments()).extracting(CommentResponse::id).containsExactly(secondComment.getId());
+		assertThat(lastPage.hasNext()).isFalse();
+		assertThat(lastPage.nextCursor()).isNull();
+		assertThat(replies.comments()).extracting(CommentResponse::id).containsExactly(secondReply.getId());
+	}
+
+	@Test
+	@DisplayName("게시글의 댓글을 답글과 함께 트리로 조회하고, 루트 댓글 기준으로 페이징 할 수 있다.")
+	void getCommentThreadTest() {
+		//given
+		Comment firstComment = commentRepository.save(createTestComment(testMember, testPost));
+		Comment secondComment = commentRepository.save(createTestComment(testMember, testPost));
+		Comment firstReply = commentRepository.save(createTestReply(testMember, testPost, firstComment));
+		Comment secondReply = commentRepository.save(createTestReply(testMember, testPost, firstComment));
+
+		//when
+		List<CommentThreadResponse> firstPage = commentService.getCommentThreadOf(postId, PageRequest.of(0, 1));
+		List<CommentThreadResponse> secondPage = commentService.getCommentThreadOf(postId, PageRequest.of(1, 1));
+
+		//then
+		assertThat(firstPage).hasSize(1);
+		assertThat(firstPage.get(0).id()).isEqualTo(firstComment.getId());
+		assertThat(firstPage.get(0).replies())
+			.extracting(CommentThreadResponse::id)
+			.containsExactly(firstReply.getId(), secondReply.getId());
+		assertThat(secondPage).hasSize(1);
+		assertThat(secondPage.get(0).id()).isEqualTo(secondComment.getId());
+		assertThat(secondPage.get(0).replies()).isEmpty();
+	}
+
 	@Test
 	@DisplayName("회원은 게시글의 댓글을 수정 할 수 있다.")
 	void updateCommentTest() {
@@ -225,7 +320,9 @@ public class CommentServiceTest {
 
 			// 잘못된 CommentId
 			() -> assertThrows(IllegalArgumentException.class,
-				() -> commentService.updateComment(wrongMemberId, wrongCommentId, postId, request))
+				() -> commentService.updateComment(wrongMemberId, wrongCommentId, postId, request)),
+			() -> assertThrows(IllegalArgumentException.class,
+				() -> commentService.createReply(memberId, wrongCommentId, postId, request))
 
 		);
 
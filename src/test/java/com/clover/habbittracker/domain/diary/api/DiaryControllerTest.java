@@ -109,7 +109,8 @@ class DiaryControllerTest extends RestDocsSupport {
 					fieldWithPath("data.id").type(NUMBER).description("회고록 아이디"),
 					fieldWithPath("data.content").type(STRING).description("회고록 내용"),
 					fieldWithPath("data.createDate").type(STRING).description("회고록 등록 날짜"),
-					fieldWithPath("data.endUpdateDate").type(STRING).description("회고 수정 마감 날짜")
+					fieldWithPath("data.endUpdateDate").type(STRING).description("회고 수정 마감 날짜"),
+					fieldWithPath("data.locked").type(BOOLEAN).description("수정 마감으로 잠긴 회고록 여부")
 				)));
 	}
 
@@ -131,7 +132,8 @@ class DiaryControllerTest extends RestDocsSupport {
 					fieldWithPath("data[].id").type(NUMBER).description("회고록 아이디"),
 					fieldWithPath("data[].content").type(STRING).description("회고록 내용"),
 					fieldWithPath("data[].createDate").type(STRING).description("회고 등록 날짜"),
-					fieldWithPath("data[].endUpdateDate").type(STRING).description("회고 수정 마감 날짜")
+					fieldWithPath("data[].endUpdateDate").type(STRING).description("회고 수정 마감 날짜"),
+					fieldWithPath("data[].locked").type(BOOLEAN).description("수정 마감으로 잠긴 회고록 여부")
 				)));
 	}
 
@@ -161,7 +163,8 @@ class DiaryControllerTest extends RestDocsSupport {
 					fieldWithPath("data[].id").type(NUMBER).description("회고록 아이디"),
 					fieldWithPath("data[].content").type(STRING).description("회고록 내용"),
 					fieldWithPath("data[].createDate").type(STRING).description("회고 등록 날짜"),
-					fieldWithPath("data[].endUpdateDate").type(STRING).description("회고 수정 마감 날짜")
+					fieldWithPath("data[].endUpdateDate").type(STRING).description("회고 수정 마감 날짜"),
+					fieldWithPath("data[].locked").type(BOOLEAN).description("수정 마감으로 잠긴 회고록 여부")
 				)));
 	}
 
@@ -195,6 +198,7 @@ class DiaryControllerTest extends RestDocsSupport {
 		String request = new ObjectMapper().writeValueAsString(diaryRequest);
 		Diary expiredDiary = Diary.builder()
 			.endUpdateDate(LocalDateTime.now().minusDays(24))
+			.member(savedMember)
 			.content("마감시간이 지난 회고록")
 			.build();
 		diaryRepository.save(expiredDiary);
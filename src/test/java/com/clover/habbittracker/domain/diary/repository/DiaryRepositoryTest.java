@@ -16,6 +16,7 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 
+import com.clover.habbittracker.domain.diary.dto.DiaryResponse;
 import com.clover.habbittracker.domain.diary.entity.Diary;
 import com.clover.habbittracker.domain.member.entity.Member;
 import com.clover.habbittracker.domain.member.repository.MemberRepository;
@@ -94,16 +95,16 @@ class DiaryRepositoryTest {
 		Map<String, LocalDateTime> dateTimeMap2 = DateUtil.getMonthStartAndEndDate("2023-03");
 
 		//when
-		List<Diary> diaryList1 = diaryRepository.findByMemberId(testMember.getId(), dateTimeMap1.get("start"),
-			dateTimeMap1.get("end"));
-		List<Diary> diaryList2 = diaryRepository.findByMemberId(testMember.getId(), dateTimeMap2.get("start"),
-			dateTimeMap2.get("end"));
+		List<DiaryResponse> diaryList1 = diaryRepository.findMonthlyDiaries(testMember.getId(),
+			dateTimeMap1.get("start"), dateTimeMap1.get("end"));
+		List<DiaryResponse> diaryList2 = diaryRepository.findMonthlyDiaries(testMember.getId(),
+			dateTimeMap2.get("start"), dateTimeMap2.get("end"));
 
 		//then
 		assertThat(diaryList1.size()).isEqualTo(10);
 		assertThat(diaryList2.size()).isEqualTo(0);
 		LocalDateTime previousDate = null;
-		for (Diary diary : diaryList1) {
+		for (DiaryResponse diary : diaryList1) {
 			assertThat(diary)
 				.hasFieldOrProperty("id")
 				.hasFieldOrProperty("content");
@@ -114,4 +115,27 @@ class DiaryRepositoryTest {
 		}
 	}
 
+	@Test
+	@DisplayName("사용자의 월별 회고록을 응답 형태로 바로 조회 할 수 있다.")
+	void findMonthlyDiariesTest() {
+		//given
+		Diary diary = diaryRepository.save(Diary.builder()
+			.content("테스트회고입니다.")
+			.member(testMember)
+			.endUpdateDate(LocalDateTime.now().plusHours(24))
+			.build());
+		Map<String, LocalDateTime> dateTimeMap = DateUtil.getMonthStartAndEndDate(null);
+
+		//when
+		List<DiaryResponse> diaryList = diaryRepository.findMonthlyDiaries(testMember.getId(),
+			dateTimeMap.get("start"), dateTimeMap.get("end"));
+
+		//then
+		assertThat(diaryList).hasSize(1);
+		assertThat(diaryList.get(0))
+			.hasFieldOrPropertyWithValue("id", diary.getId())
+			.hasFieldOrPropertyWithValue("content", diary.getContent())
+			.hasFieldOrProperty("endUpdateDate");
+	}
+
 }
@@ -68,7 +68,7 @@ public class DiaryServiceTest {
 		DiaryRequest updateRequest = new DiaryRequest("회고록 수정내용입니다.");
 
 		//when
-		DiaryResponse diaryResponse = diaryService.updateDiary(diaryId, updateRequest);
+		DiaryResponse diaryResponse = diaryService.updateDiary(diaryId, updateRequest, testMember.getId());
 
 		//then
 		assertThat(diaryResponse)
@@ -88,10 +88,48 @@ public class DiaryServiceTest {
 		Diary saveDiary = diaryRepository.save(diary);
 		DiaryRequest updateRequest = new DiaryRequest("회고록 수정내용입니다.");
 		//when 	then
-		assertThrows(DiaryExpiredException.class, () -> diaryService.updateDiary(saveDiary.getId(), updateRequest));
+		assertThrows(DiaryExpiredException.class, () -> diaryService.updateDiary(saveDiary.getId(), updateRequest, testMember.getId()));
 
 	}
 
+	@Test
+	@DisplayName("다른 사용자의 회고록은 수정 할 수 없다.")
+	void updateOtherMemberDiaryTest() {
+		//given
+		Long diaryId = diaryService.register(testMember.getId(), new DiaryRequest("테스트 회고록입니다."));
+		DiaryRequest updateRequest = new DiaryRequest("회고록 수정내용입니다.");
+
+		//when then
+		assertThrows(DiaryNotFoundException.class,
+			() -> diaryService.updateDiary(diaryId, updateRequest, testMember.getId() + 1));
+	}
+
+	@Test
+	@DisplayName("수정 마감이 지난 회고록은 일괄로 잠기고 수정 할 수 없다.")
+	void lockExpiredTest() {
+		//given
+		Diary expiredDiary = diaryRepository.save(Diary.builder()
+			.content("테스트 회고록입니다.")
+			.member(testMember)
+			.endUpdateDate(LocalDateTime.now().minusDays(1))
+			.build());
+		Long diaryId = diaryService.register(testMember.getId(), new DiaryRequest("테스트 회고록입니다."));
+
+		//when
+		int locked = diaryRepository.lockExpired(LocalDateTime.now(), 1000);
+
+		//then
+		assertThat(locked).isGreaterThanOrEqualTo(1);
+		assertThat(diaryRepository.findResponseById(expiredDiary.getId()))
+			.get()
+			.extracting(DiaryResponse::isLocked)
+			.isEqualTo(true);
+		assertThrows(DiaryExpiredException.class,
+			() -> diaryService.updateDiary(expiredDiary.getId(), new DiaryRequest("수정"), testMember.getId()));
+		assertThat(diaryService.updateDiary(diaryId, new DiaryRequest("수정"), testMember.getId()).getContent())
+			.isEqualTo("수정");
+	}
+
 	@Test
 	@DisplayName("사용자 Id를 받아 나의 월별 회고록 리스트를 조회 할 수 있다.")
 	@Transactional
@@ -124,7 +162,8 @@ public class DiaryServiceTest {
 		//when then
 		assertAll(
 			() -> assertThrows(MemberNotFoundException.class, () -> diaryService.register(wrongDiaryId, diaryRequest)),
-			() -> assertThrows(DiaryNotFoundException.class, () -> diaryService.updateDiary(wrongDiaryId, diaryRequest))
+			() -> assertThrows(DiaryNotFoundException.class,
+				() -> diaryService.updateDiary(wrongDiaryId, diaryRequest, testMember.getId()))
 		);
 	}
 
@@ -168,6 +168,41 @@ class EmojiControllerTest extends RestDocsSupport {
 			);
 	}
 
+	@ParameterizedTest
+	@EnumSource(Domain.class)
+	@DisplayName("[200 성공] 여러 도메인의 이모지를 한번에 조회")
+	void getAllEmojisIn(Domain domain) throws Exception {
+		//given
+		Long domainId = getDomainId(domain);
+		Long notSavedEmojiDomainId = getNotSavedEmojiDomainId(domain);
+
+		//when then
+		mockMvc.perform(
+				get("/{domain}/emojis", domain.name().toLowerCase())
+					.header("Authorization", "Bearer " + accessToken)
+					.queryParam("domainIds", domainId.toString(), notSavedEmojiDomainId.toString())
+					.contentType(APPLICATION_JSON)
+			)
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$." + domainId).isArray())
+			.andExpect(jsonPath("$." + notSavedEmojiDomainId).doesNotExist())
+			.andDo(restDocs.document(
+				requestHeaders(
+					headerWithName("Authorization").description("JWT Access 토큰")
+				),
+				pathParameters(
+					parameterWithName("domain").description(generateLinkCode(DocUrl.EMOJI_DOMAIN))
+				),
+				queryParameters(
+					parameterWithName("domainIds").description("이모지를 찾고 싶은 도메인의 아이디 목록 (최대 100개)")
+				),
+				responseFields(
+					subsectionWithPath(domainId.toString()).type(ARRAY)
+						.description("도메인 아이디별 이모지 목록 (이모지가 없는 도메인은 포함되지 않음)")
+				))
+			);
+	}
+
 	@ParameterizedTest
 	@EnumSource(Domain.class)
 	@DisplayName("[204 성공] 이모지 삭제")
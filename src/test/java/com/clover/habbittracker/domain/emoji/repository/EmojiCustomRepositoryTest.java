@@ -7,6 +7,7 @@ import static com.clover.habbittracker.util.PostProvider.*;
 import static org.assertj.core.api.Assertions.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -34,6 +35,9 @@ class EmojiCustomRepositoryTest extends RepositoryTest {
 	@Autowired
 	private EmojiRepository emojiRepository;
 
+	@Autowired
+	private EmojiCountRepository emojiCountRepository;
+
 	private Post savedPost;
 
 	private Comment savedComment;
@@ -42,11 +46,13 @@ class EmojiCustomRepositoryTest extends RepositoryTest {
 	void setUpDomain() {
 		// Post
 		savedPost = postRepository.save(createTestPost(savedMember));
-		emojiRepository.save(createTestEmojiInPost(savedMember, savedPost));
+		Emoji postEmoji = emojiRepository.save(createTestEmojiInPost(savedMember, savedPost));
+		emojiCountRepository.addCount(Domain.POST, savedPost.getId(), postEmoji.getType(), 1);
 
 		// Comment
 		savedComment = commentRepository.save(createTestComment(savedMember, savedPost));
-		emojiRepository.save(createTestEmojiInComment(savedMember, savedComment));
+		Emoji commentEmoji = emojiRepository.save(createTestEmojiInComment(savedMember, savedComment));
+		emojiCountRepository.addCount(Domain.COMMENT, savedComment.getId(), commentEmoji.getType(), 1);
 	}
 
 	@ParameterizedTest
@@ -62,6 +68,18 @@ class EmojiCustomRepositoryTest extends RepositoryTest {
 		assertThat(emojiList.get(0).getDomainId()).isEqualTo(getDomainId(domain));
 	}
 
+	@ParameterizedTest
+	@EnumSource(Domain.class)
+	@DisplayName("[성공] 도메인과 도메인아이디 목록으로 할당된 이모지 전체 조회")
+	void findAllInDomains(Domain domain) {
+		// when
+		List<Emoji> emojiList = emojiRepository.findAllInDomain(domain, List.of(getDomainId(domain), Long.MAX_VALUE));
+
+		// then
+		assertThat(emojiList).hasSize(1);
+		assertThat(emojiList.get(0).getDomainId()).isEqualTo(getDomainId(domain));
+	}
+
 	@ParameterizedTest
 	@EnumSource(Domain.class)
 	@DisplayName("[성공] 유니크 식별값으로 조회")
@@ -87,6 +105,32 @@ class EmojiCustomRepositoryTest extends RepositoryTest {
 		assertThat(count).isEqualTo(1);
 	}
 
+	@ParameterizedTest
+	@EnumSource(Domain.class)
+	@DisplayName("[성공] 도메인에 할당된 이모지 종류별 개수 조회")
+	void countByType(Domain domain) {
+		// given
+		Emoji savedEmoji = emojiRepository.findAllInDomain(domain, getDomainId(domain)).get(0);
+
+		// when
+		Map<Type, Long> counts = emojiRepository.countByType(domain, getDomainId(domain));
+
+		// then
+		assertThat(counts).containsExactly(entry(savedEmoji.getType(), 1L));
+	}
+
+	@ParameterizedTest
+	@EnumSource(Domain.class)
+	@DisplayName("[성공] 이모지 개수는 0 미만으로 내려가지 않음")
+	void addCountNotNegative(Domain domain) {
+		// when
+		emojiCountRepository.addCount(domain, getDomainId(domain), Type.SMILE, -1);
+		emojiCountRepository.addCount(domain, getDomainId(domain), Type.SMILE, -1);
+
+		// then
+		assertThat(emojiRepository.countByDomain(domain, getDomainId(domain))).isZero();
+	}
+
 	private Long getDomainId(Domain domain) {
 		if (domain == Domain.POST) {
 			return savedPost.getId();
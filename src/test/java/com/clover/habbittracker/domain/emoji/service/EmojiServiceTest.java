@@ -11,9 +11,11 @@ import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 
 import com.clover.habbittracker.base.ServiceTest;
 import com.clover.habbittracker.domain.comment.entity.Comment;
@@ -21,6 +23,7 @@ import com.clover.habbittracker.domain.comment.repository.CommentRepository;
 import com.clover.habbittracker.domain.emoji.dto.EmojiResponse;
 import com.clover.habbittracker.domain.emoji.entity.Emoji;
 import com.clover.habbittracker.domain.emoji.repository.EmojiRepository;
+import com.clover.habbittracker.domain.post.dto.PostResponse;
 import com.clover.habbittracker.domain.post.entity.Post;
 import com.clover.habbittracker.domain.post.repository.PostRepository;
 
@@ -66,6 +69,51 @@ class EmojiServiceTest extends ServiceTest {
 		assertThat(allEmojis).hasSize(1);
 	}
 
+	@Test
+	@DisplayName("[성공] 게시글 이모지 생성/삭제 시 게시글의 이모지 수 반영")
+	void postEmojiCount() {
+		// given
+		Long otherMemberId = savedMember.getId() + 1;
+
+		// when
+		emojiService.save(Type.SMILE, otherMemberId, Domain.POST, savedPost.getId());
+		emojiService.save(Type.HEART, otherMemberId, Domain.POST, savedPost.getId()); // 상태 변경은 개수에 영향 없음
+		emojiService.save(Type.SMILE, savedMember.getId(), Domain.COMMENT, savedComment.getId());
+
+		// then
+		assertThat(getPostSummary().numOfEmojis()).isEqualTo(1);
+
+		// when
+		emojiService.delete(otherMemberId, Domain.POST, savedPost.getId());
+
+		// then
+		assertThat(getPostSummary().numOfEmojis()).isZero();
+	}
+
+	@Test
+	@DisplayName("[성공] 이모지 생성/변경/삭제 시 종류별 이모지 수 반영")
+	void emojiCountByType() {
+		// given
+		Long otherMemberId = savedMember.getId() + 1;
+
+		// when
+		emojiService.save(Type.SMILE, otherMemberId, Domain.POST, savedPost.getId());
+		emojiService.save(Type.HEART, otherMemberId, Domain.POST, savedPost.getId());
+
+		// then
+		assertThat(emojiRepository.countByType(Domain.POST, savedPost.getId()))
+			.containsExactly(entry(Type.HEART, 1L));
+
+		// when
+		emojiService.delete(otherMemberId, Domain.POST, savedPost.getId());
+		emojiService.save(Type.SAD, otherMemberId, Domain.POST, savedPost.getId());
+
+		// then
+		assertThat(emojiRepository.countByType(Domain.POST, savedPost.getId()))
+			.containsExactly(entry(Type.SAD, 1L));
+		assertThat(emojiRepository.countByDomain(Domain.POST, savedPost.getId())).isEqualTo(1);
+	}
+
 	@ParameterizedTest
 	@EnumSource(Domain.class)
 	@DisplayName("[성공] 이모지 저장(생성)")
@@ -127,4 +175,11 @@ class EmojiServiceTest extends ServiceTest {
 		}
 		return null;
 	}
-}
\ No newline at end of file
+
+	private PostResponse getPostSummary() {
+		return postRepository.findAllPostsSummary(PageRequest.of(0, 15), null).stream()
+			.filter(post -> post.id().equals(savedPost.getId()))
+			.findFirst()
+			.orElseThrow();
+	}
+}
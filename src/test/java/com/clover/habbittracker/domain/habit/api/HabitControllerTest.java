@@ -13,6 +13,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,6 +25,7 @@ import com.clover.habbittracker.base.RestDocsSupport;
 import com.clover.habbittracker.domain.habit.dto.HabitRequest;
 import com.clover.habbittracker.domain.habit.entity.Habit;
 import com.clover.habbittracker.domain.habit.repository.HabitRepository;
+import com.clover.habbittracker.domain.habitcheck.dto.HabitCheckBatchRequest;
 import com.clover.habbittracker.domain.habitcheck.dto.HabitCheckRequest;
 import com.clover.habbittracker.domain.habitcheck.entity.HabitCheck;
 import com.clover.habbittracker.domain.habitcheck.repository.HabitCheckRepository;
@@ -162,6 +164,53 @@ class HabitControllerTest extends RestDocsSupport {
 			));
 	}
 
+	@Test
+	@DisplayName("사용자는 여러 습관의 수행 여부를 한번에 체크하거나 취소 할 수 있다.")
+	void habitCheckAllTest() throws Exception {
+		//given
+		LocalDate now = LocalDate.now();
+		String today = "0" + now.getMonthValue() + "-" + now.getDayOfMonth();
+		LocalDate yesterday = now.minusDays(1);
+		String expiredDate = yesterday.getMonthValue() + "-" + yesterday.getDayOfMonth();
+		Habit otherHabit = habitRepository.save(
+			Habit.builder().content("다른 습관입니다.").member(savedMember).build());
+		String request = objectMapper.writeValueAsString(new HabitCheckBatchRequest(List.of(
+			new HabitCheckBatchRequest.Operation(testHabit.getId(), today, true),
+			new HabitCheckBatchRequest.Operation(otherHabit.getId(), today, false),
+			new HabitCheckBatchRequest.Operation(otherHabit.getId(), expiredDate, true)
+		)));
+
+		//when then
+		mockMvc.perform(
+				post("/habits/checks")
+					.header("Authorization", "Bearer " + accessToken)
+					.contentType(APPLICATION_JSON)
+					.content(request))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.expiredOperations[0].habitId", is(otherHabit.getId().intValue())))
+			.andDo(restDocs.document(
+				requestHeaders(
+					headerWithName("Authorization").description("JWT Access 토큰")
+				),
+				requestFields(
+					fieldWithPath("operations[]").type(ARRAY).description("습관 체크 요청 목록")
+						.attributes(field("constraints", "100개 이내")),
+					fieldWithPath("operations[].habitId").type(NUMBER).description("습관 아이디"),
+					fieldWithPath("operations[].requestDate").type(STRING).description("습관을 체크하고 싶은 날짜"),
+					fieldWithPath("operations[].checked").type(BOOLEAN).description("체크 여부 (false 면 체크 취소)")
+				),
+				responseFields(
+					fieldWithPath("code").type(STRING).description("결과 코드"),
+					fieldWithPath("message").type(STRING).description("결과 메시지"),
+					fieldWithPath("data.expiredOperations[]").type(ARRAY)
+						.description("날짜가 지나 반영되지 않은 체크 요청 목록 (나머지 요청은 반영된다)"),
+					fieldWithPath("data.expiredOperations[].habitId").type(NUMBER).description("습관 아이디"),
+					fieldWithPath("data.expiredOperations[].requestDate").type(STRING).description("요청한 날짜"),
+					fieldWithPath("data.expiredOperations[].checked").type(BOOLEAN).description("체크 여부")
+				)
+			));
+	}
+
 	@Test
 	@DisplayName("사용자는 저장된 습관 수행 여부를 취소 할 수 있다.")
 	void habitUnCheckTest() throws Exception {
@@ -252,6 +301,42 @@ class HabitControllerTest extends RestDocsSupport {
 			));
 	}
 
+	@Test
+	@DisplayName("사용자는 나의 습관 통계를 조회 할 수 있다.")
+	void myHabitStatisticsTest() throws Exception {
+		//given
+		LocalDate now = LocalDate.now();
+		String today = "0" + now.getMonthValue() + "-" + now.getDayOfMonth();
+		String request = objectMapper.writeValueAsString(new HabitCheckRequest(today));
+		mockMvc.perform(
+			RestDocumentationRequestBuilders.post("/habits/{habitId}/check", testHabit.getId())
+				.header("Authorization", "Bearer " + accessToken)
+				.contentType(APPLICATION_JSON)
+				.content(request));
+
+		//when then
+		mockMvc.perform(
+				get("/habits/statistics")
+					.header("Authorization", "Bearer " + accessToken))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.[0].habitId").value(testHabit.getId()))
+			.andExpect(jsonPath("$.data.[0].currentStreak").value(1))
+			.andDo(restDocs.document(
+				requestHeaders(
+					headerWithName("Authorization").description("JWT Access 토큰")
+				),
+				responseFields(
+					fieldWithPath("code").type(STRING).description("결과 코드"),
+					fieldWithPath("message").type(STRING).description("결과 메시지"),
+					fieldWithPath("data[].habitId").type(NUMBER).description("습관 아이디"),
+					fieldWithPath("data[].currentStreak").type(NUMBER).description("현재 연속 체크 일수"),
+					fieldWithPath("data[].longestStreak").type(NUMBER).description("최장 연속 체크 일수"),
+					fieldWithPath("data[].monthlyCheckCount").type(NUMBER).description("이번 달 체크 횟수"),
+					fieldWithPath("data[].monthlyCompletionRate").type(NUMBER).description("이번 달 달성률 (%)")
+				)
+			));
+	}
+
 	@Test
 	@DisplayName("잘못된 습관 아이디를 보낼 경우 HabitNotFound 예외가 터진다.")
 	void habitCheckTestWithWrongId() throws Exception {
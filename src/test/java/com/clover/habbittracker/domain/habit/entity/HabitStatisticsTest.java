@@ -0,0 +1,102 @@
+package com.clover.habbittracker.domain.habit.entity;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HabitStatisticsTest {
+
+	private final LocalDate today = LocalDate.of(2023, 5, 10);
+
+	@Test
+	@DisplayName("연속으로 체크하면 연속 기록이 증가한다.")
+	void continuousCheckTest() {
+		//given
+		HabitStatistics statistics = new HabitStatistics();
+
+		//when
+		statistics.check(today.minusDays(2));
+		statistics.check(today.minusDays(1));
+		statistics.check(today);
+
+		//then
+		assertThat(statistics.getCurrentStreak(today)).isEqualTo(3);
+		assertThat(statistics.getLongestStreak()).isEqualTo(3);
+		assertThat(statistics.getMonthlyCheckCount(today)).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("하루라도 체크하지 않으면 연속 기록이 끊기고 최장 기록은 유지된다.")
+	void brokenStreakTest() {
+		//given
+		HabitStatistics statistics = new HabitStatistics();
+		statistics.check(today.minusDays(4));
+		statistics.check(today.minusDays(3));
+
+		//when
+		statistics.check(today);
+
+		//then
+		assertThat(statistics.getCurrentStreak(today)).isEqualTo(1);
+		assertThat(statistics.getLongestStreak()).isEqualTo(2);
+		assertThat(statistics.getCurrentStreak(today.plusDays(2))).isZero();
+	}
+
+	@Test
+	@DisplayName("마지막 체크를 취소하면 통계가 증분으로 되돌려진다.")
+	void unCheckLatestTest() {
+		//given
+		HabitStatistics statistics = new HabitStatistics();
+		statistics.check(today.minusDays(1));
+		statistics.check(today);
+
+		//when
+		boolean reverted = statistics.unCheck(today);
+
+		//then
+		assertThat(reverted).isTrue();
+		assertThat(statistics.getCurrentStreak(today)).isEqualTo(1);
+		assertThat(statistics.getLastCheckDate()).isEqualTo(today.minusDays(1));
+		assertThat(statistics.getMonthlyCheckCount(today)).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("과거 체크를 취소하면 이력으로 통계를 다시 계산한다.")
+	void recalculateTest() {
+		//given
+		HabitStatistics statistics = new HabitStatistics();
+		statistics.check(today.minusDays(2));
+		statistics.check(today.minusDays(1));
+		statistics.check(today);
+
+		//when
+		boolean reverted = statistics.unCheck(today.minusDays(1));
+		statistics.recalculate(List.of(today.minusDays(2), today), today);
+
+		//then
+		assertThat(reverted).isFalse();
+		assertThat(statistics.getCurrentStreak(today)).isEqualTo(1);
+		assertThat(statistics.getLongestStreak()).isEqualTo(1);
+		assertThat(statistics.getMonthlyCheckCount(today)).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("달이 바뀌면 월별 체크 횟수는 새로 집계된다.")
+	void monthlyCheckCountTest() {
+		//given
+		HabitStatistics statistics = new HabitStatistics();
+		LocalDate lastDayOfMonth = LocalDate.of(2023, 4, 30);
+		statistics.check(lastDayOfMonth);
+
+		//when
+		statistics.check(lastDayOfMonth.plusDays(1));
+
+		//then
+		assertThat(statistics.getCurrentStreak(lastDayOfMonth.plusDays(1))).isEqualTo(2);
+		assertThat(statistics.getMonthlyCheckCount(lastDayOfMonth.plusDays(1))).isEqualTo(1);
+	}
+}
@@ -3,7 +3,9 @@ package com.clover.habbittracker.domain.habit.repository;
 import static com.clover.habbittracker.util.MemberProvider.*;
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,12 +16,14 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 
+import com.clover.habbittracker.domain.habit.dto.MyHabitResponse;
 import com.clover.habbittracker.domain.habit.entity.Habit;
 import com.clover.habbittracker.domain.habitcheck.entity.HabitCheck;
 import com.clover.habbittracker.domain.habitcheck.repository.HabitCheckRepository;
 import com.clover.habbittracker.domain.member.entity.Member;
 import com.clover.habbittracker.domain.member.repository.MemberRepository;
 import com.clover.habbittracker.global.config.db.JpaConfig;
+import com.clover.habbittracker.global.util.DateUtil;
 
 @DataJpaTest
 @Import(JpaConfig.class)
@@ -99,4 +103,27 @@ class HabitRepositoryTest {
 		assertThat(testMemberHabitList.size()).isEqualTo(1);
 		assertThat(testMemberHabitList.get(0).getHabitChecks().size()).isEqualTo(1);
 	}
+
+	@Test
+	@DisplayName("사용자 ID와 기간으로 해당 기간의 습관 체크 내역만 담긴 습관 리스트를 조회 할 수 있다.")
+	void findMyHabitsWithChecksBetweenTest() {
+		//given
+		Habit testHabit = habitRepository.save(Habit.builder().content("testHabit").member(testMember).build());
+		habitCheckRepository.save(HabitCheck.builder().checked(true).habit(testHabit).build());
+		Map<String, LocalDateTime> thisMonth = DateUtil.getMonthStartAndEndDate(null);
+		Map<String, LocalDateTime> pastMonth = DateUtil.getMonthStartAndEndDate("2023-03");
+
+		//when
+		List<MyHabitResponse> thisMonthHabits = habitRepository.findMyHabitsWithChecksBetween(testMember.getId(),
+			thisMonth.get("start"), thisMonth.get("end"));
+		List<MyHabitResponse> pastMonthHabits = habitRepository.findMyHabitsWithChecksBetween(testMember.getId(),
+			pastMonth.get("start"), pastMonth.get("end"));
+
+		//then
+		assertThat(thisMonthHabits.size()).isEqualTo(1);
+		assertThat(thisMonthHabits.get(0).getId()).isEqualTo(testHabit.getId());
+		assertThat(thisMonthHabits.get(0).getHabitChecks().size()).isEqualTo(1);
+		assertThat(pastMonthHabits.size()).isEqualTo(1);
+		assertThat(pastMonthHabits.get(0).getHabitChecks()).isEmpty();
+	}
 }
@@ -17,10 +17,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.clover.habbittracker.domain.habit.dto.HabitRequest;
 import com.clover.habbittracker.domain.habit.dto.HabitResponse;
+import com.clover.habbittracker.domain.habit.dto.HabitStatisticsResponse;
 import com.clover.habbittracker.domain.habit.dto.MyHabitResponse;
 import com.clover.habbittracker.domain.habit.entity.Habit;
 import com.clover.habbittracker.domain.habit.exception.HabitNotFoundException;
 import com.clover.habbittracker.domain.habit.repository.HabitRepository;
+import com.clover.habbittracker.domain.habitcheck.dto.HabitCheckBatchRequest;
+import com.clover.habbittracker.domain.habitcheck.dto.HabitCheckBatchResponse;
 import com.clover.habbittracker.domain.habitcheck.entity.HabitCheck;
 import com.clover.habbittracker.domain.habitcheck.exception.HabitCheckDuplicateException;
 import com.clover.habbittracker.domain.habitcheck.exception.HabitCheckExpiredException;
@@ -155,6 +158,144 @@ public class HabitServiceTest {
 			() -> habitService.habitCheck(saveHabitId, today)); // 같은 날 두번 연속 체크는 불가능.
 	}
 
+	@Test
+	@DisplayName("습관 수행 여부 체크를 취소하면 같은 날 다시 체크 할 수 있다.")
+	void reCheckAfterUnCheckTest() {
+		//given
+		Long testMemberId = testMember.getId();
+		HabitRequest habitRequest = new HabitRequest("테스트습관");
+		Long saveHabitId = habitService.register(testMemberId, habitRequest);
+		String today = "0" + now.getMonthValue() + "-" + now.getDayOfMonth();
+		habitService.habitCheck(saveHabitId, today);
+		Habit saveHabit = habitRepository.findById(saveHabitId).get();
+		HabitCheck habitCheck = habitCheckRepository.findByHabit(saveHabit).get();
+
+		//when
+		habitService.habitUnCheck(habitCheck.getId());
+
+		//then
+		assertDoesNotThrow(() -> habitService.habitCheck(saveHabitId, today));
+	}
+
+	@Test
+	@DisplayName("습관을 체크하면 나의 습관 통계가 갱신된다.")
+	void getMyStatisticsTest() {
+		//given
+		Long testMemberId = testMember.getId();
+		HabitRequest habitRequest = new HabitRequest("테스트습관");
+		Long saveHabitId = habitService.register(testMemberId, habitRequest);
+		String today = "0" + now.getMonthValue() + "-" + now.getDayOfMonth();
+
+		//when
+		habitService.habitCheck(saveHabitId, today);
+		List<HabitStatisticsResponse> statistics = habitService.getMyStatistics(testMemberId);
+
+		//then
+		assertThat(statistics).hasSize(1);
+		assertThat(statistics.get(0).getHabitId()).isEqualTo(saveHabitId);
+		assertThat(statistics.get(0).getCurrentStreak()).isEqualTo(1);
+		assertThat(statistics.get(0).getLongestStreak()).isEqualTo(1);
+		assertThat(statistics.get(0).getMonthlyCheckCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("습관 체크를 취소하면 나의 습관 통계도 되돌려진다.")
+	void getMyStatisticsAfterUnCheckTest() {
+		//given
+		Long testMemberId = testMember.getId();
+		HabitRequest habitRequest = new HabitRequest("테스트습관");
+		Long saveHabitId = habitService.register(testMemberId, habitRequest);
+		String today = "0" + now.getMonthValue() + "-" + now.getDayOfMonth();
+		habitService.habitCheck(saveHabitId, today);
+		Habit saveHabit = habitRepository.findById(saveHabitId).get();
+		HabitCheck habitCheck = habitCheckRepository.findByHabit(saveHabit).get();
+
+		//when
+		habitService.habitUnCheck(habitCheck.getId());
+		List<HabitStatisticsResponse> statistics = habitService.getMyStatistics(testMemberId);
+
+		//then
+		assertThat(statistics.get(0).getCurrentStreak()).isZero();
+		assertThat(statistics.get(0).getMonthlyCheckCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("여러 습관의 수행 여부를 한번에 체크하고 취소 할 수 있다.")
+	void habitCheckAllTest() {
+		//given
+		Long testMemberId = testMember.getId();
+		Long firstHabitId = habitService.register(testMemberId, new HabitRequest("첫번째습관"));
+		Long secondHabitId = habitService.register(testMemberId, new HabitRequest("두번째습관"));
+		String today = "0" + now.getMonthValue() + "-" + now.getDayOfMonth();
+		habitService.habitCheck(secondHabitId, today);
+
+		HabitCheckBatchRequest request = new HabitCheckBatchRequest(List.of(
+			new HabitCheckBatchRequest.Operation(firstHabitId, today, true),
+			new HabitCheckBatchRequest.Operation(firstHabitId, today, true), // 재전송된 요청은 무시된다.
+			new HabitCheckBatchRequest.Operation(secondHabitId, today, false)
+		));
+
+		//when
+		habitService.habitCheckAll(testMemberId, request);
+
+		//then
+		Habit firstHabit = habitRepository.findById(firstHabitId).get();
+		Habit secondHabit = habitRepository.findById(secondHabitId).get();
+		assertThat(habitCheckRepository.findCreateDatesByHabit(firstHabit)).hasSize(1);
+		assertThat(habitCheckRepository.findCreateDatesByHabit(secondHabit)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("일괄 체크 요청 중 날짜가 지난 체크만 건너뛰고 나머지는 반영한다.")
+	void habitCheckAllWithExpiredOperationTest() {
+		//given
+		Long testMemberId = testMember.getId();
+		Long firstHabitId = habitService.register(testMemberId, new HabitRequest("첫번째습관"));
+		Long secondHabitId = habitService.register(testMemberId, new HabitRequest("두번째습관"));
+		String today = "0" + now.getMonthValue() + "-" + now.getDayOfMonth();
+		LocalDateTime yesterday = now.minusDays(1);
+		String expiredDate = yesterday.getMonthValue() + "-" + yesterday.getDayOfMonth();
+
+		HabitCheckBatchRequest.Operation expiredOperation =
+			new HabitCheckBatchRequest.Operation(secondHabitId, expiredDate, true);
+		HabitCheckBatchRequest request = new HabitCheckBatchRequest(List.of(
+			new HabitCheckBatchRequest.Operation(firstHabitId, today, true),
+			expiredOperation
+		));
+
+		//when
+		HabitCheckBatchResponse response = habitService.habitCheckAll(testMemberId, request);
+
+		//then
+		assertThat(response.expiredOperations()).containsExactly(expiredOperation);
+		assertThat(habitCheckRepository.findCreateDatesByHabit(habitRepository.findById(firstHabitId).get()))
+			.hasSize(1);
+		assertThat(habitCheckRepository.findCreateDatesByHabit(habitRepository.findById(secondHabitId).get()))
+			.isEmpty();
+	}
+
+	@Test
+	@DisplayName("다른 사용자의 습관이 포함된 일괄 체크 요청은 예외가 터진다.")
+	void habitCheckAllWithOthersHabitTest() {
+		//given
+		Long testMemberId = testMember.getId();
+		Long habitId = habitService.register(testMemberId, new HabitRequest("테스트습관"));
+		Member otherMember = memberRepository.save(Member.builder()
+			.email("other@test.com")
+			.oauthId("otherOauthId")
+			.provider("kakao")
+			.nickName("다른사용자")
+			.build());
+		String today = "0" + now.getMonthValue() + "-" + now.getDayOfMonth();
+		HabitCheckBatchRequest request = new HabitCheckBatchRequest(List.of(
+			new HabitCheckBatchRequest.Operation(habitId, today, true)
+		));
+
+		//when then
+		assertThrows(HabitNotFoundException.class,
+			() -> habitService.habitCheckAll(otherMember.getId(), request));
+	}
+
 	@Test
 	@DisplayName("습관 수행 여부 체크는 오늘이 아니라면 예외가 터진다.")
 	void expiredHabitCheckTest() {
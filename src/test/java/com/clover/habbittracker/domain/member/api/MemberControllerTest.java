@@ -7,6 +7,7 @@ import static org.springframework.restdocs.headers.HeaderDocumentation.*;
 import static org.springframework.restdocs.payload.JsonFieldType.STRING;
 import static org.springframework.restdocs.payload.JsonFieldType.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -94,6 +95,41 @@ class MemberControllerTest extends RestDocsSupport {
 			));
 	}
 
+	@Test
+	@DisplayName("사용자는 닉네임의 사용 가능 여부를 조회할 수 있다.")
+	void checkNickNameAvailableTest() throws Exception {
+		//when then
+		mockMvc.perform(get("/users/nickname/available")
+				.header("Authorization", "Bearer " + accessToken)
+				.param("nickName", "availableNick"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data").value(true))
+			.andDo(restDocs.document(
+				requestHeaders(
+					headerWithName("Authorization").description("JWT Access 토큰")
+				),
+				queryParameters(
+					parameterWithName("nickName").description("사용 가능 여부를 확인할 닉네임")
+				),
+				responseFields(
+					fieldWithPath("code").type(STRING).description("결과 코드"),
+					fieldWithPath("message").type(STRING).description("결과 메시지"),
+					fieldWithPath("data").type(BOOLEAN).description("닉네임 사용 가능 여부")
+				)
+			));
+	}
+
+	@Test
+	@DisplayName("이미 사용 중인 닉네임은 사용할 수 없다.")
+	void checkNickNameUnavailableTest() throws Exception {
+		//when then
+		mockMvc.perform(get("/users/nickname/available")
+				.header("Authorization", "Bearer " + accessToken)
+				.param("nickName", savedMember.getNickName()))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data").value(false));
+	}
+
 	@Test
 	@DisplayName("사용자는 자신의 프로필 정보를 삭제 할 수 있다.")
 	void deleteProfileTest() throws Exception {
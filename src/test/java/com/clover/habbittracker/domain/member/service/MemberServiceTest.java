@@ -9,10 +9,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.clover.habbittracker.domain.member.dto.MemberRequest;
 import com.clover.habbittracker.domain.member.dto.MemberResponse;
+import com.clover.habbittracker.domain.member.entity.Member;
 import com.clover.habbittracker.domain.member.exception.MemberDuplicateNickName;
 import com.clover.habbittracker.domain.member.exception.MemberNotFoundException;
 import com.clover.habbittracker.domain.member.repository.MemberRepository;
@@ -78,4 +80,54 @@ class MemberServiceTest {
 			memberService.updateProfile(saveId, memberRequest);
 		});
 	}
+
+	@Test
+	@DisplayName("다른 사용자가 사용 중인 닉네임으로 변경하면 예외가 발생한다.")
+	void failedUpdateProfileByOtherMemberNickNameTest() {
+
+		//given
+		memberRepository.save(Member.builder()
+			.email("other@email.com")
+			.oauthId("otherOauthId")
+			.provider("testProvider")
+			.nickName("otherNickName")
+			.build());
+		MemberRequest memberRequest = new MemberRequest("otherNickName");
+
+		//when then
+		assertThrows(MemberDuplicateNickName.class, () -> {
+			memberService.updateProfile(saveId, memberRequest);
+		});
+	}
+
+	@Test
+	@DisplayName("사용 중인 닉네임은 사용할 수 없고, 사용 중이지 않은 닉네임은 사용할 수 있다.")
+	void isNickNameAvailableTest() {
+
+		//given
+		memberService.updateProfile(saveId, new MemberRequest("takenNickName"));
+
+		//when then
+		assertThat(memberService.isNickNameAvailable("takenNickName")).isFalse();
+		assertThat(memberService.isNickNameAvailable("freeNickName")).isTrue();
+	}
+
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	@DisplayName("프로필을 수정하거나 탈퇴하면 캐시된 프로필도 갱신된다.")
+	void evictProfileCacheTest() {
+		try {
+			//given
+			memberService.getProfile(saveId);
+
+			//when
+			memberService.updateProfile(saveId, new MemberRequest("cachedNickName"));
+
+			//then
+			assertThat(memberService.getProfile(saveId).getNickName()).isEqualTo("cachedNickName");
+		} finally {
+			memberService.deleteProfile(saveId);
+		}
+		assertThrows(MemberNotFoundException.class, () -> memberService.getProfile(saveId));
+	}
 }
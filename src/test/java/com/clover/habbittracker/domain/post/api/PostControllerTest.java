@@ -109,7 +109,48 @@ class PostControllerTest extends RestDocsSupport {
 					fieldWithPath("views").type(NUMBER).description("조회수"),
 					fieldWithPath("numOfComments").type(NUMBER).description("댓글 수"),
 					fieldWithPath("numOfEmojis").type(NUMBER).description("이모지 수"),
-					fieldWithPath("createDate").type(STRING).description("생성 날짜")
+					fieldWithPath("createDate").type(STRING).description("생성 날짜"),
+					fieldWithPath("isBookmarked").type(BOOLEAN).description("조회한 회원의 북마크 여부")
+				)
+			));
+	}
+
+	@Test
+	@DisplayName("사용자는 커서 기반으로 게시글 리스트를 조회 할 수 있다.")
+	void getPostListByCursorTest() throws Exception {
+		//given
+		postRepository.save(createTestPost(savedMember));
+		postRepository.save(createTestPost(savedMember));
+
+		//when then
+		mockMvc.perform(get("/posts")
+				.header("Authorization", "Bearer " + accessToken)
+				.param("cursor", "")
+				.param("size", "2"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.posts.length()", is(2)))
+			.andExpect(jsonPath("$.data.nextCursor").exists())
+			.andDo(restDocs.document(
+				requestHeaders(
+					headerWithName("Authorization").description("JWT Access 토큰")
+				),
+				queryParameters(
+					parameterWithName("cursor").description("이전 응답의 nextCursor (첫 페이지는 빈 값)"),
+					parameterWithName("size").description("페이지 크기").optional()
+				),
+				responseFields(
+					beneathPath("data").withSubsectionId("data"),
+					fieldWithPath("posts[].id").type(NUMBER).description("게시글 id"),
+					fieldWithPath("posts[].title").type(STRING).description("게시글 제목"),
+					fieldWithPath("posts[].content").type(STRING).description("게시글 본문"),
+					fieldWithPath("posts[].thumbnailUrl").description("게시글 썸네일 url"),
+					fieldWithPath("posts[].category").type(STRING).description(generateLinkCode(DocUrl.CATEGORY)),
+					fieldWithPath("posts[].views").type(NUMBER).description("조회수"),
+					fieldWithPath("posts[].numOfComments").type(NUMBER).description("댓글 수"),
+					fieldWithPath("posts[].numOfEmojis").type(NUMBER).description("이모지 수"),
+					fieldWithPath("posts[].createDate").type(STRING).description("생성 날짜"),
+					fieldWithPath("posts[].isBookmarked").type(BOOLEAN).description("조회한 회원의 북마크 여부"),
+					fieldWithPath("nextCursor").type(STRING).description("다음 페이지 커서 (마지막 페이지면 null)")
 				)
 			));
 	}
@@ -140,7 +181,9 @@ class PostControllerTest extends RestDocsSupport {
 					fieldWithPath("content").type(STRING).description("게시글 본문"),
 					fieldWithPath("category").type(STRING).description(generateLinkCode(DocUrl.CATEGORY)),
 					fieldWithPath("views").type(NUMBER).description("조회수"),
-					fieldWithPath("emojis").type(ARRAY).description("이모지 수"),
+					fieldWithPath("emojiSummary.counts").type(OBJECT).description("이모지 종류별 개수"),
+					fieldWithPath("emojiSummary.myEmojiType").type(STRING).optional()
+						.description("조회한 회원이 남긴 이모지 (없으면 null)"),
 					fieldWithPath("createDate").type(STRING).description("생성 날짜"),
 					fieldWithPath("updateDate").type(STRING).description("수정 날짜")
 				)
@@ -191,6 +234,7 @@ class PostControllerTest extends RestDocsSupport {
 					fieldWithPath("content[].numOfComments").type(NUMBER).description("댓글 수"),
 					fieldWithPath("content[].numOfEmojis").type(NUMBER).description("이모지 수"),
 					fieldWithPath("content[].createDate").type(STRING).description("생성 날짜"),
+					fieldWithPath("content[].isBookmarked").type(BOOLEAN).description("조회한 회원의 북마크 여부"),
 					fieldWithPath("pageable").type(OBJECT).description(generateLinkCode(DocUrl.PAGEABLE))
 
 				)
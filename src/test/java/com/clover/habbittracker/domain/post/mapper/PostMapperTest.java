@@ -6,6 +6,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +15,8 @@ import org.junit.jupiter.api.Test;
 import com.clover.habbittracker.domain.comment.dto.CommentResponse;
 import com.clover.habbittracker.domain.comment.mapper.CommentMapper;
 import com.clover.habbittracker.domain.comment.mapper.CommentMapperImpl;
+import com.clover.habbittracker.domain.emoji.dto.EmojiSummaryResponse;
+import com.clover.habbittracker.domain.emoji.entity.Emoji;
 import com.clover.habbittracker.domain.member.entity.Member;
 import com.clover.habbittracker.domain.post.dto.PostDetailResponse;
 import com.clover.habbittracker.domain.post.dto.PostRequest;
@@ -57,9 +60,10 @@ public class PostMapperTest {
 			.stream()
 			.map(commentMapper::toCommentResponse)
 			.toList();
+		EmojiSummaryResponse emojiSummary = EmojiSummaryResponse.of(Map.of(Emoji.Type.SMILE, 1L));
 
 		//when
-		PostDetailResponse postDetailResponse = postMapper.toPostDetail(testPost);
+		PostDetailResponse postDetailResponse = postMapper.toPostDetail(testPost, emojiSummary);
 
 		//then
 		assertAll(() -> {
@@ -68,7 +72,7 @@ public class PostMapperTest {
 			assertThat(testPost.getContent()).isEqualTo(postDetailResponse.content());
 			assertThat(testPost.getCategory()).isEqualTo(postDetailResponse.category());
 			assertThat(testPost.getViews()).isEqualTo(postDetailResponse.views());
-			assertThat(testPost.getEmojis()).isEqualTo(postDetailResponse.emojis());
+			assertThat(emojiSummary).isEqualTo(postDetailResponse.emojiSummary());
 		});
 	}
 }
@@ -0,0 +1,77 @@
+package com.clover.habbittracker.domain.post.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.clover.habbittracker.domain.emoji.dto.EmojiSummaryResponse;
+import com.clover.habbittracker.domain.emoji.entity.Emoji;
+import com.clover.habbittracker.domain.post.dto.PostDetailResponse;
+import com.clover.habbittracker.domain.post.entity.Post;
+
+@SpringBootTest
+class PostDetailCacheRepositoryTest {
+
+	private static final Long POST_ID = Long.MAX_VALUE;
+
+	@Autowired
+	private PostDetailCacheRepository postDetailCacheRepository;
+
+	@AfterEach
+	void tearDown() {
+		postDetailCacheRepository.evict(POST_ID);
+	}
+
+	@Test
+	@DisplayName("캐시된 게시글 상세 내용은 다시 조회하지 않는다.")
+	void getCachedTest() {
+		//given
+		AtomicInteger loadCount = new AtomicInteger();
+		Supplier<PostDetailResponse> loader = () -> {
+			loadCount.incrementAndGet();
+			return createPostDetail();
+		};
+
+		//when
+		PostDetailResponse first = postDetailCacheRepository.get(POST_ID, loader);
+		PostDetailResponse second = postDetailCacheRepository.get(POST_ID, loader);
+
+		//then
+		assertThat(loadCount.get()).isEqualTo(1);
+		assertThat(second).isEqualTo(first);
+	}
+
+	@Test
+	@DisplayName("캐시를 비우면 게시글 상세 내용을 다시 조회한다.")
+	void evictTest() {
+		//given
+		AtomicInteger loadCount = new AtomicInteger();
+		Supplier<PostDetailResponse> loader = () -> {
+			loadCount.incrementAndGet();
+			return createPostDetail();
+		};
+		postDetailCacheRepository.get(POST_ID, loader);
+
+		//when
+		postDetailCacheRepository.evict(POST_ID);
+		postDetailCacheRepository.get(POST_ID, loader);
+
+		//then
+		assertThat(loadCount.get()).isEqualTo(2);
+	}
+
+	private PostDetailResponse createPostDetail() {
+		LocalDateTime now = LocalDateTime.of(2023, 5, 1, 12, 0);
+		return new PostDetailResponse(1L, "title", "content", Post.Category.ALL, 0L,
+			EmojiSummaryResponse.of(Map.of(Emoji.Type.SMILE, 1L)), now, now);
+	}
+}
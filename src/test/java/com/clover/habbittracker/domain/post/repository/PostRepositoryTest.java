@@ -33,6 +33,7 @@ import com.clover.habbittracker.domain.emoji.entity.Emoji;
 import com.clover.habbittracker.domain.emoji.repository.EmojiRepository;
 import com.clover.habbittracker.domain.member.entity.Member;
 import com.clover.habbittracker.domain.member.repository.MemberRepository;
+import com.clover.habbittracker.domain.post.dto.PostCursor;
 import com.clover.habbittracker.domain.post.dto.PostResponse;
 import com.clover.habbittracker.domain.post.dto.PostSearchCondition;
 import com.clover.habbittracker.domain.post.entity.Post;
@@ -89,8 +90,10 @@ public class PostRepositoryTest {
 		Post savedPost = postRepository.save(testPost);
 		Emoji testEmojiInPost = EmojiProvider.createTestEmojiInPost(testMember, savedPost);
 		emojiRepository.save(testEmojiInPost);
+		postRepository.updateEmojiCount(savedPost.getId(), 1);
 		Comment comment = Comment.builder().post(savedPost).member(testMember).content("댓글").build();
 		commentRepository.save(comment);
+		postRepository.updateCommentCount(savedPost.getId(), 1);
 
 		//when
 		List<PostResponse> allPostsSummary = postRepository.findAllPostsSummary(pageable, null);
@@ -133,7 +136,7 @@ public class PostRepositoryTest {
 		Post savePost = postRepository.save(testPost);
 
 		//when
-		Optional<Post> findPost = postRepository.joinMemberAndEmojisFindById(savePost.getId());
+		Optional<Post> findPost = postRepository.joinMemberFindById(savePost.getId());
 
 		//then
 		assertThat(findPost).isPresent();
@@ -157,6 +160,24 @@ public class PostRepositoryTest {
 		assertThat(dailyPostsSummary.get(0).category()).isEqualTo(savePostDaily.getCategory());
 	}
 
+	@Test
+	@DisplayName("커서 이후의 게시글을 최신순으로 조회 할 수 있다.")
+	void findAllPostsSummaryAfterTest() {
+		//given
+		Post firstPost = postRepository.save(createTestPost(testMember));
+		Post secondPost = postRepository.save(createTestPost(testMember));
+		Post thirdPost = postRepository.save(createTestPost(testMember));
+
+		//when
+		List<PostResponse> firstPage = postRepository.findAllPostsSummaryAfter(null, 2, null);
+		PostCursor cursor = PostCursor.decode(PostCursor.from(firstPage.get(1)).encode());
+		List<PostResponse> secondPage = postRepository.findAllPostsSummaryAfter(cursor, 2, null);
+
+		//then
+		assertThat(firstPage).extracting(PostResponse::id).containsExactly(thirdPost.getId(), secondPost.getId());
+		assertThat(secondPage).extracting(PostResponse::id).startsWith(firstPost.getId());
+	}
+
 	@Disabled // TODO: 조회수 개선 이후 테스트 진행. 현재 정상적으로 테스트가 불가능.
 	@Test
 	@DisplayName("게시글의 조회수는 1씩 증가한다.")
@@ -198,5 +219,22 @@ public class PostRepositoryTest {
 
 		//then
 		assertThat(posts.getContent().size()).isEqualTo(1);
+		assertThat(posts.getTotalElements()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("검색 조건에 맞는 게시글의 총 개수를 조회 할 수 있다.")
+	void countPostByTest() {
+		//given
+		postRepository.save(createTestPost(testMember, Post.Category.DAILY));
+		postRepository.save(createTestPost(testMember, Post.Category.DAILY));
+		postRepository.save(createTestPost(testMember, Post.Category.ETC));
+		PostSearchCondition searchCondition = new PostSearchCondition(Post.Category.DAILY, null, null);
+
+		//when
+		long count = postRepository.countPostBy(searchCondition);
+
+		//then
+		assertThat(count).isEqualTo(2);
 	}
 }
@@ -1,5 +1,6 @@
 package com.clover.habbittracker.domain.post.service;
 
+import static com.clover.habbittracker.util.CommentProvider.*;
 import static com.clover.habbittracker.util.MemberProvider.*;
 import static com.clover.habbittracker.util.PostProvider.*;
 import static org.assertj.core.api.Assertions.*;
@@ -23,6 +24,15 @@ import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.clover.habbittracker.domain.bookmark.entity.Bookmark;
+import com.clover.habbittracker.domain.bookmark.entity.BookmarkPost;
+import com.clover.habbittracker.domain.bookmark.repository.BookmarkPostRepository;
+import com.clover.habbittracker.domain.bookmark.repository.BookmarkRepository;
+import com.clover.habbittracker.domain.comment.entity.Comment;
+import com.clover.habbittracker.domain.comment.repository.CommentRepository;
+import com.clover.habbittracker.domain.emoji.entity.Emoji;
+import com.clover.habbittracker.domain.emoji.repository.EmojiRepository;
+import com.clover.habbittracker.domain.emoji.service.EmojiService;
 import com.clover.habbittracker.domain.member.entity.Member;
 import com.clover.habbittracker.domain.member.repository.MemberRepository;
 import com.clover.habbittracker.domain.post.dto.PostDetailResponse;
@@ -30,6 +40,7 @@ import com.clover.habbittracker.domain.post.dto.PostRequest;
 import com.clover.habbittracker.domain.post.dto.PostResponse;
 import com.clover.habbittracker.domain.post.dto.PostSearchCondition;
 import com.clover.habbittracker.domain.post.entity.Post;
+import com.clover.habbittracker.domain.post.exception.PostNotFoundException;
 import com.clover.habbittracker.domain.post.repository.PostRepository;
 import com.clover.habbittracker.util.CustomTransaction;
 
@@ -46,6 +57,16 @@ class PostServiceTest {
 	private MemberRepository memberRepository;
 	@Autowired
 	private PlatformTransactionManager transactionManager;
+	@Autowired
+	private CommentRepository commentRepository;
+	@Autowired
+	private EmojiRepository emojiRepository;
+	@Autowired
+	private EmojiService emojiService;
+	@Autowired
+	private BookmarkRepository bookmarkRepository;
+	@Autowired
+	private BookmarkPostRepository bookmarkPostRepository;
 	private Member testMember;
 
 	@BeforeEach
@@ -96,7 +117,7 @@ class PostServiceTest {
 		//given
 		Post post = postRepository.save(createTestPost(testMember));
 		//when
-		PostDetailResponse postDetail = postService.getPostBy(post.getId());
+		PostDetailResponse postDetail = postService.getPostBy(post.getId(), testMember.getId());
 		//then
 		assertAll(() -> {
 			assertThat(post.getTitle()).isEqualTo(postDetail.title());
@@ -107,6 +128,36 @@ class PostServiceTest {
 		});
 	}
 
+	@Test
+	@DisplayName("같은 회원이 게시글을 다시 조회해도 조회수는 한번만 증가한다.")
+	void getPostViewDedupeTest() {
+		//given
+		Post post = postRepository.save(createTestPost(testMember));
+
+		//when
+		PostDetailResponse firstView = postService.getPostBy(post.getId(), testMember.getId());
+		PostDetailResponse secondView = postService.getPostBy(post.getId(), testMember.getId());
+
+		//then
+		assertThat(firstView.views()).isEqualTo(1L);
+		assertThat(secondView.views()).isEqualTo(firstView.views());
+	}
+
+	@Test
+	@DisplayName("삭제된 게시글은 상세 내용이 캐시되어 있어도 조회할 수 없다.")
+	void getDeletedPostTest() {
+		//given
+		Post post = postRepository.save(createTestPost(testMember));
+		postService.getPostBy(post.getId(), testMember.getId());
+
+		//when
+		postService.deletePost(post.getId(), testMember.getId());
+
+		//then
+		assertThrows(PostNotFoundException.class,
+			() -> postService.getPostBy(post.getId(), testMember.getId()));
+	}
+
 	@Test
 	@DisplayName("게시글 아이디로 게시글을 삭제 할 수 있다.")
 	void deletePostTest() {
@@ -119,6 +170,54 @@ class PostServiceTest {
 		assertThat(deletedPost).isEmpty();
 	}
 
+	@Test
+	@DisplayName("게시글을 삭제하면 댓글, 답글과 이모지도 함께 삭제된다.")
+	void deletePostWithCommentsTest() {
+		//given
+		Post post = postRepository.save(createTestPost(testMember));
+		Comment comment = commentRepository.save(createTestComment(testMember, post));
+		Comment reply = commentRepository.save(createTestReply(testMember, post, comment));
+		emojiService.save(Emoji.Type.SMILE, testMember.getId(), Emoji.Domain.POST, post.getId());
+		emojiService.save(Emoji.Type.HEART, testMember.getId(), Emoji.Domain.COMMENT, comment.getId());
+		emojiService.save(Emoji.Type.SAD, testMember.getId(), Emoji.Domain.COMMENT, reply.getId());
+
+		//when
+		postService.deletePost(post.getId(), testMember.getId());
+
+		//then
+		assertAll(() -> {
+			assertThat(commentRepository.findByPostId(post.getId())).isEmpty();
+			assertThat(commentRepository.findRepliesByParentIds(List.of(comment.getId()))).isEmpty();
+			assertThat(emojiRepository.findAllInDomain(Emoji.Domain.POST, post.getId())).isEmpty();
+			assertThat(emojiRepository.findAllInDomain(Emoji.Domain.COMMENT, List.of(comment.getId(), reply.getId())))
+				.isEmpty();
+			assertThat(emojiRepository.countByType(Emoji.Domain.COMMENT, comment.getId())).isEmpty();
+		});
+	}
+
+	@Test
+	@DisplayName("게시글 목록에 조회한 회원의 북마크 여부가 포함된다.")
+	void getPostListWithBookmarkedTest() {
+		//given
+		Post bookmarkedPost = postRepository.save(createTestPost(testMember));
+		Post post = postRepository.save(createTestPost(testMember));
+		Bookmark bookmark = bookmarkRepository.save(Bookmark.defaultBookmark(testMember));
+		bookmarkPostRepository.save(new BookmarkPost(bookmark, bookmarkedPost));
+
+		//when
+		List<PostResponse> postList = postService.getPostAllBy(Post.Category.ALL, pageable, testMember.getId());
+
+		//then
+		assertThat(postList)
+			.filteredOn(postResponse -> postResponse.id().equals(bookmarkedPost.getId()))
+			.extracting(PostResponse::isBookmarked)
+			.containsExactly(true);
+		assertThat(postList)
+			.filteredOn(postResponse -> postResponse.id().equals(post.getId()))
+			.extracting(PostResponse::isBookmarked)
+			.containsExactly(false);
+	}
+
 	@Nested
 	@Sql(scripts = "/searchTest_after.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
 	@DisplayName("검색은")
@@ -139,7 +238,8 @@ class PostServiceTest {
 		@DisplayName("카테고리로 할수있다")
 		void categoryTest() {
 			//when
-			List<PostResponse> categoryFilterPost = postService.getPostAllBy(savedPost.getCategory(), pageable);
+			List<PostResponse> categoryFilterPost = postService.getPostAllBy(savedPost.getCategory(), pageable,
+				testMember.getId());
 			//then
 			assertAll(() -> {
 				assertThat(categoryFilterPost.size()).isEqualTo(1);
@@ -161,7 +261,7 @@ class PostServiceTest {
 				savedPost.getTitle());
 
 			//when
-			Page<PostResponse> titleFilterPost = postService.getPostBy(condition, pageable);
+			Page<PostResponse> titleFilterPost = postService.getPostBy(condition, pageable, testMember.getId());
 			List<PostResponse> postList = titleFilterPost.getContent();
 			//then
 			assertAll(() -> {
@@ -183,7 +283,7 @@ class PostServiceTest {
 				savedPost.getContent());
 
 			//when
-			Page<PostResponse> titleFilterPost = postService.getPostBy(condition, pageable);
+			Page<PostResponse> titleFilterPost = postService.getPostBy(condition, pageable, testMember.getId());
 			List<PostResponse> postList = titleFilterPost.getContent();
 			//then
 			assertAll(() -> {
@@ -14,6 +14,7 @@ import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import com.clover.habbittracker.global.auth.exception.JwtExpiredException;
 import com.clover.habbittracker.global.auth.exception.JwtStructureException;
 
 import jakarta.servlet.ServletException;
@@ -34,7 +35,7 @@ public class JwtFilterTest {
 		httpServletResponse = new MockHttpServletResponse();
 		filterChain = new MockFilterChain();
 		jwtProvider = new JwtProvider(SECRET_KEY, EXPIRED_MS, REFRESH_EXPIRED_MS);
-		jwtFilter = new JwtFilter(jwtProvider);
+		jwtFilter = new JwtFilter(jwtProvider, new JwtClaimsCache(100L));
 	}
 
 	@Test
@@ -68,6 +69,36 @@ public class JwtFilterTest {
 			() -> jwtFilter.doFilterInternal(httpServletRequest, httpServletResponse, filterChain));
 	}
 
+	@Test
+	@DisplayName("한 번 검증한 토큰은 캐시된 Claims 로 인증한다.")
+	void cachedClaimsAuthentication() {
+		//given
+		JwtClaimsCache jwtClaimsCache = new JwtClaimsCache(100L);
+		String accessJwt = jwtProvider.createAccessJwt(1L);
+		jwtClaimsCache.get(accessJwt, jwtProvider::getClaims);
+
+		//when then
+		assertThat(jwtClaimsCache.get(accessJwt, token -> {
+			throw new AssertionError("캐시된 토큰은 다시 검증하지 않는다.");
+		}).get("userId", Long.class)).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("캐시된 토큰이라도 만료 시간이 지나면 예외가 터진다.")
+	void cachedClaimsExpired() throws InterruptedException {
+		//given
+		JwtProvider shortJwtProvider = new JwtProvider(SECRET_KEY, 1000L, REFRESH_EXPIRED_MS);
+		JwtFilter shortJwtFilter = new JwtFilter(shortJwtProvider, new JwtClaimsCache(100L));
+		String accessJwt = shortJwtProvider.createAccessJwt(1L);
+		shortJwtFilter.createAuthentication(accessJwt);
+
+		//when
+		Thread.sleep(1100L);
+
+		//then
+		assertThrows(JwtExpiredException.class, () -> shortJwtFilter.createAuthentication(accessJwt));
+	}
+
 	@Test
 	@DisplayName("인증이 필요하지 않다면, 필터에 걸리지않게 한다.")
 	void noAuthorizationFiler() {
@@ -4,6 +4,7 @@ import static com.clover.habbittracker.util.MemberProvider.*;
 import static org.assertj.core.api.Assertions.*;
 
 import java.util.Optional;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -34,9 +35,13 @@ class OauthServiceTest {
 
 	private Member testMember;
 
+	private String oauthId;
+
+	// 소셜 로그인 캐시는 테스트 트랜잭션과 함께 롤백되지 않으므로 매번 새로운 oauthId 를 사용한다.
 	@BeforeEach
 	void setUp() {
 		testMember = createTestMember();
+		oauthId = "GoogleOauthId" + UUID.randomUUID();
 	}
 
 	@Test
@@ -44,7 +49,7 @@ class OauthServiceTest {
 	void memberRegisterTest() {
 		//given
 		SocialUser user = SocialUser.builder()
-			.oauthId("GoogleOauthId")
+			.oauthId(oauthId)
 			.provider("google")
 			.nickName(testMember.getNickName())
 			.build();
@@ -59,4 +64,56 @@ class OauthServiceTest {
 		assertThat(savedMember).isPresent();
 		assertThat(savedMember.get().getId()).isEqualTo(memberId);
 	}
+
+	@Test
+	@DisplayName("이미 가입된 사용자가 다시 로그인하면 새로 가입하지 않고 같은 회원으로 로그인한다.")
+	void memberReLoginTest() {
+		//given
+		SocialUser user = SocialUser.builder()
+			.oauthId(oauthId)
+			.provider("google")
+			.nickName(testMember.getNickName())
+			.build();
+		Long firstMemberId = jwtProvider.getClaims(oauthService.login(user)).get("userId", Long.class);
+
+		//when
+		String accessToken = oauthService.login(user);
+
+		//then
+		Long memberId = jwtProvider.getClaims(accessToken).get("userId", Long.class);
+		assertThat(memberId).isEqualTo(firstMemberId);
+		assertThat(memberRepository.findByProviderAndOauthId("google", oauthId))
+			.get()
+			.extracting(Member::getId)
+			.isEqualTo(firstMemberId);
+	}
+
+	@Test
+	@DisplayName("같은 소셜 닉네임으로 가입된 회원이 있으면 숫자를 붙인 다른 닉네임으로 가입한다.")
+	void memberRegisterWithDuplicatedNickNameTest() {
+		//given
+		SocialUser first = SocialUser.builder()
+			.oauthId(oauthId)
+			.provider("google")
+			.nickName(testMember.getNickName())
+			.build();
+		SocialUser second = SocialUser.builder()
+			.oauthId("GoogleOauthId" + UUID.randomUUID())
+			.provider("google")
+			.nickName(testMember.getNickName())
+			.build();
+		Long firstMemberId = jwtProvider.getClaims(oauthService.login(first)).get("userId", Long.class);
+
+		//when
+		String accessToken = oauthService.login(second);
+
+		//then
+		Long memberId = jwtProvider.getClaims(accessToken).get("userId", Long.class);
+		Member firstMember = memberRepository.findById(firstMemberId).orElseThrow();
+		Member secondMember = memberRepository.findById(memberId).orElseThrow();
+		assertThat(memberId).isNotEqualTo(firstMemberId);
+		assertThat(secondMember.getNickName())
+			.startsWith(firstMember.getNickName())
+			.isNotEqualTo(firstMember.getNickName());
+	}
 }